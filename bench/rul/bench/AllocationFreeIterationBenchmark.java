@@ -0,0 +1,126 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.container.DoublyLinkedList;
+import rul.container.Vector;
+import rul.iterator.BidirectionalIterator;
+import rul.iterator.Cursor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Traversal styles that don't allocate. Run with -prof gc, every benchmark but the iterator ones should report a
+ * gc.alloc.rate.norm of 0 B/op whether or not escape analysis kicks in.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AllocationFreeIterationBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private DoublyLinkedList<Integer> list;
+    private Vector<Integer> vector;
+
+    private Cursor<Integer> listCursor;
+    private Cursor<Integer> vectorCursor;
+
+    private long sum;
+    private final Consumer<Integer> summer = i -> sum += i;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        list = new DoublyLinkedList<>();
+        vector = new Vector<>(size);
+        for(int i = 0; i < size; i = i + 1){
+            Integer boxed = i;
+            list.pushBack(boxed);
+            vector.pushBack(boxed);
+        }
+        listCursor = list.cursor();
+        vectorCursor = vector.cursor();
+    }
+
+    // DoublyLinkedList
+
+    @Benchmark
+    public long reverseIteratorDoublyLinkedList(){
+        long s = 0;
+        BidirectionalIterator<Integer> it = list.reverseBegin();
+        while(it.hasNext()){
+            s += it.next();
+        }
+        return s;
+    }
+
+    @Benchmark
+    public long cursorDoublyLinkedList(){
+        long s = 0;
+        for(listCursor.toFront(); listCursor.isValid(); listCursor.inc()){
+            s += listCursor.get();
+        }
+        return s;
+    }
+
+    @Benchmark
+    public long cursorReverseDoublyLinkedList(){
+        long s = 0;
+        for(listCursor.toBack(); listCursor.isValid(); listCursor.dec()){
+            s += listCursor.get();
+        }
+        return s;
+    }
+
+    @Benchmark
+    public long forEachDoublyLinkedList(){
+        sum = 0;
+        list.forEach(summer);
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachReverseDoublyLinkedList(){
+        sum = 0;
+        list.forEachReverse(summer);
+        return sum;
+    }
+
+    // Vector
+
+    @Benchmark
+    public long cursorVector(){
+        long s = 0;
+        for(vectorCursor.toFront(); vectorCursor.isValid(); vectorCursor.inc()){
+            s += vectorCursor.get();
+        }
+        return s;
+    }
+
+    @Benchmark
+    public long cursorReverseVector(){
+        long s = 0;
+        for(vectorCursor.toBack(); vectorCursor.isValid(); vectorCursor.dec()){
+            s += vectorCursor.get();
+        }
+        return s;
+    }
+
+    @Benchmark
+    public long forEachVector(){
+        sum = 0;
+        vector.forEach(summer);
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachReverseVector(){
+        sum = 0;
+        vector.forEachReverse(summer);
+        return sum;
+    }
+}
@@ -0,0 +1,146 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.container.ChannelInput;
+import rul.container.ChannelOutput;
+import rul.container.ContainerCodec;
+import rul.container.ElementCodec;
+import rul.container.LongVector;
+import rul.container.Vector;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkpointing a container through ContainerCodec against Java serialization of an ArrayList copy.
+ *
+ * Writes go to a channel that discards everything, reads come from an in memory copy of the encoded bytes, so the
+ * numbers are the encoding cost alone.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private Vector<Long> vector;
+    private LongVector longVector;
+
+    private byte[] vectorBytes;
+    private byte[] longVectorBytes;
+    private byte[] serializedBytes;
+
+    private final WritableByteChannel discard = new WritableByteChannel() {
+        @Override
+        public int write(ByteBuffer src){
+            int n = src.remaining();
+            src.position(src.limit());
+            return n;
+        }
+
+        @Override
+        public boolean isOpen(){
+            return true;
+        }
+
+        @Override
+        public void close(){}
+    };
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        vector = new Vector<>(size);
+        longVector = new LongVector(size);
+        for(int i = 0; i < size; i = i + 1){
+            vector.pushBack((long) i * 7);
+            longVector.pushBack((long) i * 7);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ChannelOutput out = new ChannelOutput(Channels.newChannel(bytes))){
+            ContainerCodec.write(vector, ElementCodec.LONG, out);
+        }
+        vectorBytes = bytes.toByteArray();
+
+        bytes = new ByteArrayOutputStream();
+        try(ChannelOutput out = new ChannelOutput(Channels.newChannel(bytes))){
+            ContainerCodec.write(longVector, out);
+        }
+        longVectorBytes = bytes.toByteArray();
+
+        bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)){
+            out.writeObject(toArrayList());
+        }
+        serializedBytes = bytes.toByteArray();
+    }
+
+    private ArrayList<Long> toArrayList(){
+        ArrayList<Long> list = new ArrayList<>(vector.size());
+        for(Long l : vector){
+            list.add(l);
+        }
+        return list;
+    }
+
+    // Writing.
+
+    @Benchmark
+    public void writeVector() throws IOException {
+        try(ChannelOutput out = new ChannelOutput(discard)){
+            ContainerCodec.write(vector, ElementCodec.LONG, out);
+        }
+    }
+
+    @Benchmark
+    public void writeLongVector() throws IOException {
+        try(ChannelOutput out = new ChannelOutput(discard)){
+            ContainerCodec.write(longVector, out);
+        }
+    }
+
+    @Benchmark
+    public void writeSerialized() throws IOException {
+        try(ObjectOutputStream out = new ObjectOutputStream(OutputStream.nullOutputStream())){
+            out.writeObject(toArrayList());
+        }
+    }
+
+    // Reading.
+
+    @Benchmark
+    public Vector<Long> readVector() throws IOException {
+        try(ChannelInput in = new ChannelInput(Channels.newChannel(new ByteArrayInputStream(vectorBytes)))){
+            return ContainerCodec.readVector(ElementCodec.LONG, in);
+        }
+    }
+
+    @Benchmark
+    public LongVector readLongVector() throws IOException {
+        try(ChannelInput in = new ChannelInput(Channels.newChannel(new ByteArrayInputStream(longVectorBytes)))){
+            return ContainerCodec.readLongVector(in);
+        }
+    }
+
+    @Benchmark
+    public Vector<Long> readSerialized() throws IOException, ClassNotFoundException {
+        try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serializedBytes))){
+            @SuppressWarnings("unchecked") var list = (ArrayList<Long>) in.readObject();
+            return new Vector<>(list);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.container.ConcurrentDoublyLinkedList;
+import rul.container.DoublyLinkedList;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producers pushing at the back against consumers popping at the front.
+ *
+ * Every group runs one producer and one consumer thread by default, scale them with -tg, for instance
+ * -tg 4,4 for four producers and four consumers. The globally locked DoublyLinkedList is the baseline we are
+ * replacing, ConcurrentLinkedDeque is the reference for the lock-free algorithm.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrentDequeBenchmark {
+
+    private final Integer element = 42;
+
+    private ConcurrentDoublyLinkedList<Integer> lockFree;
+    private DoublyLinkedList<Integer> locked;
+    private ConcurrentLinkedDeque<Integer> jdk;
+
+    @Setup(Level.Iteration)
+    public void setup(){
+        lockFree = new ConcurrentDoublyLinkedList<>();
+        locked = new DoublyLinkedList<>();
+        jdk = new ConcurrentLinkedDeque<>();
+    }
+
+    // ConcurrentDoublyLinkedList
+
+    @Benchmark
+    @Group("lockFree")
+    @GroupThreads(1)
+    public void lockFreeProduce(){
+        lockFree.pushBack(element);
+    }
+
+    @Benchmark
+    @Group("lockFree")
+    @GroupThreads(1)
+    public Integer lockFreeConsume(){
+        return lockFree.pollFront();
+    }
+
+    // DoublyLinkedList behind a global lock
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public void lockedProduce(){
+        synchronized(locked){
+            locked.pushBack(element);
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public Integer lockedConsume(){
+        synchronized(locked){
+            Integer t = locked.peekFront();
+            if(t != null){
+                locked.popFront();
+            }
+            return t;
+        }
+    }
+
+    // ConcurrentLinkedDeque
+
+    @Benchmark
+    @Group("jdk")
+    @GroupThreads(1)
+    public void jdkProduce(){
+        jdk.offerLast(element);
+    }
+
+    @Benchmark
+    @Group("jdk")
+    @GroupThreads(1)
+    public Integer jdkConsume(){
+        return jdk.pollFirst();
+    }
+}
@@ -0,0 +1,100 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.container.Deque;
+import rul.container.DoublyLinkedList;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FIFO and LIFO churn on the ring buffer Deque against DoublyLinkedList and java.util.ArrayDeque.
+ *
+ * Each container holds depth elements for the whole trial, every operation pushes one element and pops one, so
+ * the ring buffers never reallocate and the list pays for a node per push. Run with -prof gc to see the
+ * difference in allocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DequeBenchmark {
+
+    @Param({"16", "65536"})
+    public int depth;
+
+    private final Integer element = 42;
+
+    private Deque<Integer> deque;
+    private DoublyLinkedList<Integer> list;
+    private ArrayDeque<Integer> arrayDeque;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        deque = new Deque<>();
+        list = new DoublyLinkedList<>();
+        arrayDeque = new ArrayDeque<>();
+
+        for(int i = 0; i < depth; i = i + 1){
+            deque.pushBack(element);
+            list.pushBack(element);
+            arrayDeque.addLast(element);
+        }
+    }
+
+    @Benchmark
+    public Integer queueDeque(){
+        deque.pushBack(element);
+        Integer t = deque.getFront();
+        deque.popFront();
+        return t;
+    }
+
+    @Benchmark
+    public Integer queueDoublyLinkedList(){
+        list.pushBack(element);
+        Integer t = list.getFront();
+        list.popFront();
+        return t;
+    }
+
+    @Benchmark
+    public Integer queueArrayDeque(){
+        arrayDeque.addLast(element);
+        return arrayDeque.pollFirst();
+    }
+
+    @Benchmark
+    public Integer stackDeque(){
+        deque.pushFront(element);
+        Integer t = deque.getFront();
+        deque.popFront();
+        return t;
+    }
+
+    @Benchmark
+    public Integer stackDoublyLinkedList(){
+        list.pushFront(element);
+        Integer t = list.getFront();
+        list.popFront();
+        return t;
+    }
+
+    @Benchmark
+    public Integer stackArrayDeque(){
+        arrayDeque.addFirst(element);
+        return arrayDeque.pollFirst();
+    }
+
+    // Sums every element by position , which only the ring buffers can do in O(1).
+    @Benchmark
+    public long randomAccessDeque(){
+        long sum = 0;
+        for(int i = 0, n = deque.size(); i < n; i = i + 1){
+            sum = sum + deque.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,77 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.container.DoublyLinkedList;
+import rul.iterator.BidirectionalIterator;
+import rul.iterator.ReverseBidirectionalIterator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Erase heavy workloads on DoublyLinkedList, through forward and through reverse iterators.
+ *
+ * The list recycles its nodes so that allocation stays out of the picture and what is left is the cost of the
+ * iterator based modifiers themselves, mostly turning an iterator back into its node.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EraseBenchmark {
+
+    @Param({"1024"})
+    public int size;
+
+    private final Integer element = 42;
+
+    private DoublyLinkedList<Integer> list;
+    private BidirectionalIterator<Integer> forward;
+    private BidirectionalIterator<Integer> reverse;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        list = new DoublyLinkedList<>(size);
+        for(int i = 0; i < size; i = i + 1){
+            list.pushBack(element);
+        }
+        forward = list.begin();
+        reverse = list.reverseBegin();
+    }
+
+    // Refills the list and erases it front to back , following the iterators erase returns.
+    @Benchmark
+    public int drainForward(){
+        for(int i = 0; i < size; i = i + 1){
+            list.pushBack(element);
+        }
+        BidirectionalIterator<Integer> it = list.begin();
+        for(int i = 0; i < size; i = i + 1){
+            it = list.erase(it);
+        }
+        return list.size();
+    }
+
+    // Refills the list and erases it back to front through reverse iterators.
+    @Benchmark
+    public int drainReverse(){
+        for(int i = 0; i < size; i = i + 1){
+            list.pushBack(element);
+        }
+        for(int i = 0; i < size; i = i + 1){
+            list.erase(list.reverseBegin());
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public BidirectionalIterator<Integer> churnForward(){
+        return list.erase(list.insertAfter(forward, element));
+    }
+
+    @Benchmark
+    public BidirectionalIterator<Integer> churnReverse(){
+        return list.erase(new ReverseBidirectionalIterator<>(list.insertAfter(reverse, element)));
+    }
+}
@@ -0,0 +1,75 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.container.GrowthPolicy;
+import rul.container.Vector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bursty use of a long lived Vector under each GrowthPolicy.
+ *
+ * Every operation pushes the vector from burst / 16 elements up to burst and pops it back down, like a buffer that
+ * fills and drains. The footprint counters report the largest capacity reached and the capacity held between
+ * bursts , JMH adds event counters up over the measurement iterations so divide them by the iteration count.
+ * Run with -prof gc to see the bytes copied by reallocations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class GrowthPolicyBenchmark {
+
+    @Param({"doubling", "geometric1.5", "increment4096", "capped65536", "doublingShrinking"})
+    public String policy;
+
+    @Param({"10000", "1000000"})
+    public int burst;
+
+    private final Integer element = 42;
+
+    private Vector<Integer> vector;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long peakCapacity;
+        public long idleCapacity;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+            peakCapacity = idleCapacity = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup(){
+        GrowthPolicy growth = switch(policy){
+            case "doubling" -> GrowthPolicy.DOUBLING;
+            case "geometric1.5" -> GrowthPolicy.geometric(1.5);
+            case "increment4096" -> GrowthPolicy.increment(4096);
+            case "capped65536" -> GrowthPolicy.capped(2, 65536);
+            case "doublingShrinking" -> GrowthPolicy.DOUBLING.shrinking(0.25);
+            default -> throw new IllegalArgumentException(policy);
+        };
+        vector = new Vector<>(growth);
+        for(int i = 0; i < burst / 16; i = i + 1){
+            vector.pushBack(element);
+        }
+    }
+
+    @Benchmark
+    public int burst(Footprint footprint){
+        for(int i = burst / 16; i < burst; i = i + 1){
+            vector.pushBack(element);
+        }
+        footprint.peakCapacity = Math.max(footprint.peakCapacity, vector.capacity());
+        for(int i = burst / 16; i < burst; i = i + 1){
+            vector.popBack();
+        }
+        footprint.idleCapacity = Math.max(footprint.idleCapacity, vector.capacity());
+        return vector.size();
+    }
+}
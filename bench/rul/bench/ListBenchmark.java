@@ -0,0 +1,184 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import rul.container.DoublyLinkedList;
+import rul.iterator.BidirectionalIterator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares DoublyLinkedList against the java.util lists on the basic modifiers.
+ *
+ * Every invocation builds its containers from scratch, so the scores are operations per second for a whole
+ * batch of size elements. Run it with -prof gc to get the allocation rate next to the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ListBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private Integer[] data;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        data = new Integer[size];
+        for(int i = 0; i < size; i = i + 1){
+            data[i] = i;
+        }
+    }
+
+    // pushBack
+
+    @Benchmark
+    public DoublyLinkedList<Integer> pushBackDoublyLinkedList(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for(Integer i : data){
+            list.pushBack(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> pushBackLinkedList(){
+        LinkedList<Integer> list = new LinkedList<>();
+        for(Integer i : data){
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> pushBackArrayDeque(){
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for(Integer i : data){
+            deque.addLast(i);
+        }
+        return deque;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> pushBackArrayList(){
+        ArrayList<Integer> list = new ArrayList<>();
+        for(Integer i : data){
+            list.add(i);
+        }
+        return list;
+    }
+
+    // pushFront
+
+    @Benchmark
+    public DoublyLinkedList<Integer> pushFrontDoublyLinkedList(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for(Integer i : data){
+            list.pushFront(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> pushFrontLinkedList(){
+        LinkedList<Integer> list = new LinkedList<>();
+        for(Integer i : data){
+            list.addFirst(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> pushFrontArrayDeque(){
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for(Integer i : data){
+            deque.addFirst(i);
+        }
+        return deque;
+    }
+
+    // insertAfter : every element is inserted after the one before it, starting from a single element list.
+
+    @Benchmark
+    public DoublyLinkedList<Integer> insertAfterDoublyLinkedList(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        list.pushBack(0);
+        BidirectionalIterator<Integer> it = list.begin();
+        for(Integer i : data){
+            it = list.insertAfter(it, i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> insertAfterLinkedList(){
+        LinkedList<Integer> list = new LinkedList<>();
+        list.add(0);
+        ListIterator<Integer> it = list.listIterator(1);
+        for(Integer i : data){
+            it.add(i);
+        }
+        return list;
+    }
+
+    // pushBack followed by erasing everything through an iterator.
+
+    @Benchmark
+    public int eraseDoublyLinkedList(){
+        DoublyLinkedList<Integer> list = pushBackDoublyLinkedList();
+        BidirectionalIterator<Integer> it = list.begin();
+        while(it.hasNext()){
+            it = list.erase(it);
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public int eraseLinkedList(){
+        LinkedList<Integer> list = pushBackLinkedList();
+        ListIterator<Integer> it = list.listIterator();
+        while(it.hasNext()){
+            it.next();
+            it.remove();
+        }
+        return list.size();
+    }
+
+    // Queue style churn : pushBack + popFront.
+
+    @Benchmark
+    public void churnDoublyLinkedList(Blackhole bh){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for(Integer i : data){
+            list.pushBack(i);
+            bh.consume(list.getFront());
+            list.popFront();
+        }
+    }
+
+    @Benchmark
+    public void churnLinkedList(Blackhole bh){
+        LinkedList<Integer> list = new LinkedList<>();
+        for(Integer i : data){
+            list.addLast(i);
+            bh.consume(list.pollFirst());
+        }
+    }
+
+    @Benchmark
+    public void churnArrayDeque(Blackhole bh){
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for(Integer i : data){
+            deque.addLast(i);
+            bh.consume(deque.pollFirst());
+        }
+    }
+}
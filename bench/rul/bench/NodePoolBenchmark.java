@@ -0,0 +1,83 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.container.DoublyLinkedList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue style churn on DoublyLinkedList with and without node recycling.
+ *
+ * The list lives for the whole trial, so in steady state a recycling list should report a gc.alloc.rate.norm
+ * close to 0 B/op under -prof gc while the plain list pays for one node per pushBack.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NodePoolBenchmark {
+
+    // Elements kept in the list between operations.
+    @Param({"16", "4096"})
+    public int depth;
+
+    // Number of elements pushed and then popped by every burst invocation.
+    @Param({"1024"})
+    public int burst;
+
+    private final Integer element = 42;
+
+    private DoublyLinkedList<Integer> plain;
+    private DoublyLinkedList<Integer> pooled;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        plain = new DoublyLinkedList<>();
+        pooled = new DoublyLinkedList<>(burst);
+
+        for(int i = 0; i < depth; i = i + 1){
+            plain.pushBack(element);
+            pooled.pushBack(element);
+        }
+    }
+
+    @Benchmark
+    public Integer churnPlain(){
+        plain.pushBack(element);
+        Integer t = plain.getFront();
+        plain.popFront();
+        return t;
+    }
+
+    @Benchmark
+    public Integer churnPooled(){
+        pooled.pushBack(element);
+        Integer t = pooled.getFront();
+        pooled.popFront();
+        return t;
+    }
+
+    @Benchmark
+    public int burstPlain(){
+        for(int i = 0; i < burst; i = i + 1){
+            plain.pushBack(element);
+        }
+        for(int i = 0; i < burst; i = i + 1){
+            plain.popFront();
+        }
+        return plain.size();
+    }
+
+    @Benchmark
+    public int burstPooled(){
+        for(int i = 0; i < burst; i = i + 1){
+            pooled.pushBack(element);
+        }
+        for(int i = 0; i < burst; i = i + 1){
+            pooled.popFront();
+        }
+        return pooled.size();
+    }
+}
@@ -0,0 +1,84 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.container.PersistentVector;
+import rul.container.Vector;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishing a consistent view after one write , by copying a Vector against a PersistentVector update, and the
+ * price readers pay for the tree when iterating.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class PersistentVectorBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private final Integer element = 42;
+
+    private Vector<Integer> vector;
+    private PersistentVector<Integer> persistent;
+    private int index = 0;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        vector = new Vector<>(size);
+        for(int i = 0; i < size; i = i + 1){
+            vector.pushBack(i);
+        }
+        persistent = PersistentVector.copyOf(vector);
+    }
+
+    // One write, then a view readers can keep.
+
+    @Benchmark
+    public Vector<Integer> publishCopy(){
+        index = (index + 7919) % size;
+        vector.set(index, element);
+        return new Vector<>(vector.begin(), vector.end());
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> publishPersistent(){
+        index = (index + 7919) % size;
+        persistent = persistent.set(index, element);
+        return persistent;
+    }
+
+    // Reading a whole view.
+
+    @Benchmark
+    public long iterateVector(){
+        long sum = 0;
+        RandomAccessIterator<Integer> end = vector.end();
+        for(RandomAccessIterator<Integer> it = vector.begin(); !it.equals(end); it.inc()){
+            sum += it.get();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iteratePersistent(){
+        long sum = 0;
+        RandomAccessIterator<Integer> end = persistent.end();
+        for(RandomAccessIterator<Integer> it = persistent.begin(); !it.equals(end); it.inc()){
+            sum += it.get();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachPersistent(){
+        long[] sum = {0};
+        persistent.forEach(i -> sum[0] += i);
+        return sum[0];
+    }
+}
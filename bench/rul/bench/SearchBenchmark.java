@@ -0,0 +1,70 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.algorithm.Search;
+import rul.container.Vector;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorted lookups on a Vector through Search.lowerBound , against the linear scan it replaces and
+ * Collections.binarySearch on an ArrayList.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private Vector<Integer> vector;
+    private ArrayList<Integer> arrayList;
+    private int key = 0;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        vector = new Vector<>(size);
+        arrayList = new ArrayList<>(size);
+        for(int i = 0; i < size; i = i + 1){
+            vector.pushBack(i * 2);
+            arrayList.add(i * 2);
+        }
+    }
+
+    private Integer nextKey(){
+        key = (key + 7919) % (size * 2);
+        return key;
+    }
+
+    @Benchmark
+    public long lowerBoundVector(){
+        Integer value = nextKey();
+        RandomAccessIterator<Integer> first = vector.begin();
+        return first.distance(Search.lowerBound(first, vector.end(), value, ORDER));
+    }
+
+    @Benchmark
+    public long linearScanVector(){
+        Integer value = nextKey();
+        int i = 0;
+        while(i < vector.size() && vector.get(i) < value){
+            i = i + 1;
+        }
+        return i;
+    }
+
+    @Benchmark
+    public long binarySearchArrayList(){
+        return Collections.binarySearch(arrayList, nextKey(), ORDER);
+    }
+}
@@ -0,0 +1,116 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.container.DoublyLinkedList;
+import rul.container.UnrolledLinkedList;
+import rul.iterator.BidirectionalIterator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UnrolledLinkedList against DoublyLinkedList, for full traversals and for inserts in the middle of the list.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class UnrolledListBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    // Number of elements inserted at the middle of the list by every insertMiddle invocation.
+    @Param({"1000"})
+    public int inserts;
+
+    private DoublyLinkedList<Integer> doublyLinkedList;
+    private UnrolledLinkedList<Integer> unrolledLinkedList;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        doublyLinkedList = new DoublyLinkedList<>();
+        unrolledLinkedList = new UnrolledLinkedList<>();
+
+        for(int i = 0; i < size; i = i + 1){
+            Integer boxed = i;
+            doublyLinkedList.pushBack(boxed);
+            unrolledLinkedList.pushBack(boxed);
+        }
+    }
+
+    // Traversal
+
+    @Benchmark
+    public long traverseDoublyLinkedList(){
+        long sum = 0;
+        BidirectionalIterator<Integer> it = doublyLinkedList.begin();
+        while(it.hasNext()){
+            sum += it.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long traverseUnrolledLinkedList(){
+        long sum = 0;
+        BidirectionalIterator<Integer> it = unrolledLinkedList.begin();
+        while(it.hasNext()){
+            sum += it.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachUnrolledLinkedList(){
+        long[] sum = {0};
+        unrolledLinkedList.forEach(i -> sum[0] += i);
+        return sum[0];
+    }
+
+    // Mid-list inserts : walk to the middle once , then insert repeatedly at the returned position.
+
+    @State(Scope.Thread)
+    public static class Fresh {
+        DoublyLinkedList<Integer> doublyLinkedList;
+        UnrolledLinkedList<Integer> unrolledLinkedList;
+
+        @Setup(Level.Invocation)
+        public void setup(UnrolledListBenchmark benchmark){
+            doublyLinkedList = new DoublyLinkedList<>();
+            unrolledLinkedList = new UnrolledLinkedList<>();
+            int n = Math.min(benchmark.size, 100000);
+            for(int i = 0; i < n; i = i + 1){
+                doublyLinkedList.pushBack(i);
+                unrolledLinkedList.pushBack(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public DoublyLinkedList<Integer> insertMiddleDoublyLinkedList(Fresh fresh){
+        DoublyLinkedList<Integer> list = fresh.doublyLinkedList;
+        BidirectionalIterator<Integer> it = list.begin();
+        for(int i = list.size() / 2; i > 0; i = i - 1){
+            it.inc();
+        }
+        for(int i = 0; i < inserts; i = i + 1){
+            it = list.insertBefore(it, i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public UnrolledLinkedList<Integer> insertMiddleUnrolledLinkedList(Fresh fresh){
+        UnrolledLinkedList<Integer> list = fresh.unrolledLinkedList;
+        BidirectionalIterator<Integer> it = list.begin();
+        for(int i = list.size() / 2; i > 0; i = i - 1){
+            it.inc();
+        }
+        for(int i = 0; i < inserts; i = i + 1){
+            it = list.insertBefore(it, i);
+        }
+        return list;
+    }
+}
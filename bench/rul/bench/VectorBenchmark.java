@@ -0,0 +1,156 @@
+package rul.bench;
+
+import org.openjdk.jmh.annotations.*;
+import rul.container.Vector;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Vector against ArrayList.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class VectorBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private Integer[] data;
+
+    private Vector<Integer> vector;
+    private ArrayList<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        data = new Integer[size];
+        vector = new Vector<>(size);
+        arrayList = new ArrayList<>(size);
+
+        for(int i = 0; i < size; i = i + 1){
+            Integer boxed = i;
+            data[i] = boxed;
+            vector.pushBack(boxed);
+            arrayList.add(boxed);
+        }
+    }
+
+    // pushBack from an empty container.
+
+    @Benchmark
+    public Vector<Integer> pushBackVector(){
+        Vector<Integer> v = new Vector<>();
+        for(Integer i : data){
+            v.pushBack(i);
+        }
+        return v;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> pushBackArrayList(){
+        ArrayList<Integer> list = new ArrayList<>();
+        for(Integer i : data){
+            list.add(i);
+        }
+        return list;
+    }
+
+    // Copying a whole container.
+
+    @Benchmark
+    public Vector<Integer> copyVector(){
+        return new Vector<>(vector.begin(), vector.end());
+    }
+
+    @Benchmark
+    public ArrayList<Integer> copyArrayList(){
+        return new ArrayList<>(arrayList);
+    }
+
+    // Merging a batch into the middle of a fresh copy.
+
+    @Benchmark
+    public Vector<Integer> insertBatchVector(){
+        Vector<Integer> v = new Vector<>(vector.begin(), vector.end());
+        v.insertAll(size / 2, data);
+        return v;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> insertBatchArrayList(){
+        ArrayList<Integer> list = new ArrayList<>(arrayList);
+        list.addAll(size / 2, arrayList);
+        return list;
+    }
+
+    // Indexed access.
+
+    @Benchmark
+    public long getVector(){
+        long sum = 0;
+        for(int i = 0; i < size; i = i + 1){
+            sum += vector.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getArrayList(){
+        long sum = 0;
+        for(int i = 0; i < size; i = i + 1){
+            sum += arrayList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Vector<Integer> setVector(){
+        for(int i = 0; i < size; i = i + 1){
+            vector.set(i, vector.get(size - i - 1));
+        }
+        return vector;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> setArrayList(){
+        for(int i = 0; i < size; i = i + 1){
+            arrayList.set(i, arrayList.get(size - i - 1));
+        }
+        return arrayList;
+    }
+
+    // Iteration.
+
+    @Benchmark
+    public long iterateVector(){
+        long sum = 0;
+        RandomAccessIterator<Integer> end = vector.end();
+        for(RandomAccessIterator<Integer> it = vector.begin(); !it.equals(end); it.inc()){
+            sum += it.get();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachVector(){
+        long sum = 0;
+        for(Integer i : vector){
+            sum += i;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachArrayList(){
+        long sum = 0;
+        for(Integer i : arrayList){
+            sum += i;
+        }
+        return sum;
+    }
+}
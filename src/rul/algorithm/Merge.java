@@ -0,0 +1,120 @@
+package rul.algorithm;
+
+import rul.iterator.ForwardIterator;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Linear time merging of sorted ranges , in the manner of the STL's merge, set_union and set_intersection.
+ *
+ * Both ranges [first1,last1) and [first2,last2) must be sorted by the comparator given. Every algorithm walks them
+ * once in lockstep and hands its output, in sorted order, to out , e.g. vector::pushBack or list::pushBack. The
+ * iterators passed in are never moved.
+ */
+public final class Merge {
+
+    private Merge(){}
+
+    /**
+     * Outputs every element of both ranges. Equal elements keep their order , those of the first range first.
+     * @param first1 The first interval of the first range.
+     * @param last1 The second interval of the first range.
+     * @param first2 The first interval of the second range.
+     * @param last2 The second interval of the second range.
+     * @param out Receives the merged elements.
+     * @param c The comparator both ranges are sorted by.
+     * @complexity O(n + m).
+     */
+    public static <T> void merge(ForwardIterator<? extends T> first1, ForwardIterator<? extends T> last1,
+                                 ForwardIterator<? extends T> first2, ForwardIterator<? extends T> last2,
+                                 Consumer<? super T> out, Comparator<? super T> c){
+        Objects.requireNonNull(c);
+        ForwardIterator<? extends T> a = first1.clone();
+        ForwardIterator<? extends T> b = first2.clone();
+        while(!a.equals(last1) && !b.equals(last2)){
+            if(c.compare(b.get(), a.get()) < 0){
+                out.accept(b.get());
+                b.inc();
+            }else{
+                out.accept(a.get());
+                a.inc();
+            }
+        }
+        drain(a, last1, out);
+        drain(b, last2, out);
+    }
+
+    /**
+     * Outputs the elements found in either range. An element found in both is taken from the first range , and
+     * repeated max(k1,k2) times if it appears k1 and k2 times.
+     * @param first1 The first interval of the first range.
+     * @param last1 The second interval of the first range.
+     * @param first2 The first interval of the second range.
+     * @param last2 The second interval of the second range.
+     * @param out Receives the union.
+     * @param c The comparator both ranges are sorted by.
+     * @complexity O(n + m).
+     */
+    public static <T> void setUnion(ForwardIterator<? extends T> first1, ForwardIterator<? extends T> last1,
+                                    ForwardIterator<? extends T> first2, ForwardIterator<? extends T> last2,
+                                    Consumer<? super T> out, Comparator<? super T> c){
+        Objects.requireNonNull(c);
+        ForwardIterator<? extends T> a = first1.clone();
+        ForwardIterator<? extends T> b = first2.clone();
+        while(!a.equals(last1) && !b.equals(last2)){
+            int cmp = c.compare(a.get(), b.get());
+            if(cmp > 0){
+                out.accept(b.get());
+                b.inc();
+            }else{
+                out.accept(a.get());
+                a.inc();
+                if(cmp == 0){
+                    b.inc();
+                }
+            }
+        }
+        drain(a, last1, out);
+        drain(b, last2, out);
+    }
+
+    /**
+     * Outputs the elements found in both ranges, taken from the first one , repeated min(k1,k2) times if they appear
+     * k1 and k2 times.
+     * @param first1 The first interval of the first range.
+     * @param last1 The second interval of the first range.
+     * @param first2 The first interval of the second range.
+     * @param last2 The second interval of the second range.
+     * @param out Receives the intersection.
+     * @param c The comparator both ranges are sorted by.
+     * @complexity O(n + m).
+     */
+    public static <T> void setIntersection(ForwardIterator<? extends T> first1, ForwardIterator<? extends T> last1,
+                                           ForwardIterator<? extends T> first2, ForwardIterator<? extends T> last2,
+                                           Consumer<? super T> out, Comparator<? super T> c){
+        Objects.requireNonNull(c);
+        ForwardIterator<? extends T> a = first1.clone();
+        ForwardIterator<? extends T> b = first2.clone();
+        while(!a.equals(last1) && !b.equals(last2)){
+            int cmp = c.compare(a.get(), b.get());
+            if(cmp < 0){
+                a.inc();
+            }else if(cmp > 0){
+                b.inc();
+            }else{
+                out.accept(a.get());
+                a.inc();
+                b.inc();
+            }
+        }
+    }
+
+    private static <T> void drain(ForwardIterator<? extends T> it, ForwardIterator<? extends T> last,
+                                  Consumer<? super T> out){
+        for(; !it.equals(last); it.inc()){
+            out.accept(it.get());
+        }
+    }
+}
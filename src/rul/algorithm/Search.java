@@ -0,0 +1,197 @@
+package rul.algorithm;
+
+import rul.iterator.ForwardIterator;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Binary search over sorted ranges , in the manner of the STL's lower_bound, upper_bound, binary_search and
+ * equal_range.
+ *
+ * Every range [first,last) must be sorted by the comparator given. Over RandomAccessIterators the search jumps with
+ * advance and takes O(log n) steps, moving a single iterator and allocating nothing else. Over other
+ * ForwardIterators it still makes only O(log n) comparisons but has to walk the range , O(n) steps. The
+ * ForwardIterator versions switch to the random access ones when the iterators they're given are random access.
+ *
+ * The iterators passed in are never moved , results are new iterators.
+ */
+public final class Search {
+
+    /**
+     * A pair of iterators bounding [first,last).
+     */
+    public record Range<I>(I first, I last) {}
+
+    private Search(){}
+
+    // Random access
+
+    /**
+     * @param first The first interval.
+     * @param last The second interval.
+     * @param value The value looked for.
+     * @param c The comparator the range is sorted by.
+     * @return Iterator to the first element not less than value , last if there's none.
+     * @complexity O(log n).
+     */
+    public static <T> RandomAccessIterator<T> lowerBound(RandomAccessIterator<T> first, RandomAccessIterator<T> last,
+                                                         T value, Comparator<? super T> c){
+        return bound(first, first.distance(last), value, c, false);
+    }
+
+    /**
+     * @param first The first interval.
+     * @param last The second interval.
+     * @param value The value looked for.
+     * @param c The comparator the range is sorted by.
+     * @return Iterator to the first element greater than value , last if there's none.
+     * @complexity O(log n).
+     */
+    public static <T> RandomAccessIterator<T> upperBound(RandomAccessIterator<T> first, RandomAccessIterator<T> last,
+                                                         T value, Comparator<? super T> c){
+        return bound(first, first.distance(last), value, c, true);
+    }
+
+    /**
+     * @param first The first interval.
+     * @param last The second interval.
+     * @param value The value looked for.
+     * @param c The comparator the range is sorted by.
+     * @return Whether an element equal to value is in the range.
+     * @complexity O(log n).
+     */
+    public static <T> boolean binarySearch(RandomAccessIterator<T> first, RandomAccessIterator<T> last, T value,
+                                           Comparator<? super T> c){
+        RandomAccessIterator<T> it = lowerBound(first, last, value, c);
+        return !it.equals(last) && c.compare(value, it.get()) >= 0;
+    }
+
+    /**
+     * @param first The first interval.
+     * @param last The second interval.
+     * @param value The value looked for.
+     * @param c The comparator the range is sorted by.
+     * @return The range of the elements equal to value, empty and positioned where value would go if there's none.
+     * @complexity O(log n).
+     */
+    public static <T> Range<RandomAccessIterator<T>> equalRange(RandomAccessIterator<T> first,
+                                                                RandomAccessIterator<T> last, T value,
+                                                                Comparator<? super T> c){
+        RandomAccessIterator<T> lower = lowerBound(first, last, value, c);
+        return new Range<>(lower, upperBound(lower, last, value, c));
+    }
+
+    // Halves [it,it+count) keeping the answer inside , probing with a single iterator moved back and forth.
+    private static <T> RandomAccessIterator<T> bound(RandomAccessIterator<T> first, long count, T value,
+                                                     Comparator<? super T> c, boolean upper){
+        Objects.requireNonNull(c);
+        RandomAccessIterator<T> it = first.add(0);
+        while(count > 0){
+            long step = count / 2;
+            it.advance(step);
+            if(before(it.get(), value, c, upper)){
+                it.inc();
+                count = count - step - 1;
+            }else{
+                it.advance(-step);
+                count = step;
+            }
+        }
+        return it;
+    }
+
+    // Forward
+
+    /**
+     * @param first The first interval.
+     * @param last The second interval.
+     * @param value The value looked for.
+     * @param c The comparator the range is sorted by.
+     * @return Iterator to the first element not less than value , last if there's none.
+     * @complexity O(log n) comparisons, O(n) steps unless the iterators are random access.
+     */
+    public static <T> ForwardIterator<T> lowerBound(ForwardIterator<T> first, ForwardIterator<T> last, T value,
+                                                    Comparator<? super T> c){
+        if(first instanceof RandomAccessIterator && last instanceof RandomAccessIterator){
+            return lowerBound((RandomAccessIterator<T>) first, (RandomAccessIterator<T>) last, value, c);
+        }
+        return bound(first, last, value, c, false);
+    }
+
+    /**
+     * @param first The first interval.
+     * @param last The second interval.
+     * @param value The value looked for.
+     * @param c The comparator the range is sorted by.
+     * @return Iterator to the first element greater than value , last if there's none.
+     * @complexity O(log n) comparisons, O(n) steps unless the iterators are random access.
+     */
+    public static <T> ForwardIterator<T> upperBound(ForwardIterator<T> first, ForwardIterator<T> last, T value,
+                                                    Comparator<? super T> c){
+        if(first instanceof RandomAccessIterator && last instanceof RandomAccessIterator){
+            return upperBound((RandomAccessIterator<T>) first, (RandomAccessIterator<T>) last, value, c);
+        }
+        return bound(first, last, value, c, true);
+    }
+
+    /**
+     * @param first The first interval.
+     * @param last The second interval.
+     * @param value The value looked for.
+     * @param c The comparator the range is sorted by.
+     * @return Whether an element equal to value is in the range.
+     * @complexity O(log n) comparisons, O(n) steps unless the iterators are random access.
+     */
+    public static <T> boolean binarySearch(ForwardIterator<T> first, ForwardIterator<T> last, T value,
+                                           Comparator<? super T> c){
+        ForwardIterator<T> it = lowerBound(first, last, value, c);
+        return !it.equals(last) && c.compare(value, it.get()) >= 0;
+    }
+
+    /**
+     * @param first The first interval.
+     * @param last The second interval.
+     * @param value The value looked for.
+     * @param c The comparator the range is sorted by.
+     * @return The range of the elements equal to value, empty and positioned where value would go if there's none.
+     * @complexity O(log n) comparisons, O(n) steps unless the iterators are random access.
+     */
+    public static <T> Range<ForwardIterator<T>> equalRange(ForwardIterator<T> first, ForwardIterator<T> last,
+                                                           T value, Comparator<? super T> c){
+        ForwardIterator<T> lower = lowerBound(first, last, value, c);
+        return new Range<>(lower, upperBound(lower, last, value, c));
+    }
+
+    // Measures the range once , then halves it stepping forward only.
+    private static <T> ForwardIterator<T> bound(ForwardIterator<T> first, ForwardIterator<T> last, T value,
+                                                Comparator<? super T> c, boolean upper){
+        Objects.requireNonNull(c);
+        long count = 0;
+        for(ForwardIterator<T> it = first.clone(); !it.equals(last); it.inc()){
+            count = count + 1;
+        }
+
+        ForwardIterator<T> it = first.clone();
+        while(count > 0){
+            long step = count / 2;
+            ForwardIterator<T> mid = it.clone();
+            for(long i = 0; i < step; i = i + 1){
+                mid.inc();
+            }
+            if(before(mid.get(), value, c, upper)){
+                it = mid.inc();
+                count = count - step - 1;
+            }else{
+                count = step;
+            }
+        }
+        return it;
+    }
+
+    // Whether element goes before the bound , element < value for the lower one, element <= value for the upper one.
+    private static <T> boolean before(T element, T value, Comparator<? super T> c, boolean upper){
+        return upper ? c.compare(value, element) >= 0 : c.compare(element, value) < 0;
+    }
+}
@@ -0,0 +1,138 @@
+package rul.algorithm;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stable O(n log n) sorting kernels for array backed containers.
+ *
+ * Vector.sort and Vector.parallelSort run on these directly over the backing array , other array backed containers
+ * can share them. DoublyLinkedList.sort relinks its nodes instead and doesn't need them.
+ */
+public final class Sort {
+
+    // Ranges this short are insertion sorted , which beats merging them.
+    private static final int INSERTION_THRESHOLD = 32;
+
+    // Ranges this short aren't worth forking a task for.
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private Sort(){}
+
+    /**
+     * Stable merge sort of a[from,to).
+     * @param a The array.
+     * @param from The first index to be sorted.
+     * @param to The index after the last one to be sorted.
+     * @param c The comparator deciding the order.
+     * @throws IndexOutOfBoundsException If the range isn't within a.
+     * @complexity O(n log n) time, O(n) extra space.
+     */
+    public static <T> void mergeSort(T[] a, int from, int to, Comparator<? super T> c){
+        Objects.requireNonNull(c);
+        Objects.checkFromToIndex(from, to, a.length);
+        if(to - from < 2){
+            return;
+        }
+        mergeSort(a, new Object[to - from], from, from, to, c);
+    }
+
+    /**
+     * Stable merge sort of a[from,to), sorting both halves of large ranges in parallel in the common fork-join pool.
+     * @param a The array.
+     * @param from The first index to be sorted.
+     * @param to The index after the last one to be sorted.
+     * @param c The comparator deciding the order.
+     * @throws IndexOutOfBoundsException If the range isn't within a.
+     * @complexity O(n log n) work, O(n) extra space.
+     */
+    public static <T> void parallelMergeSort(T[] a, int from, int to, Comparator<? super T> c){
+        Objects.requireNonNull(c);
+        Objects.checkFromToIndex(from, to, a.length);
+        if(to - from <= PARALLEL_THRESHOLD){
+            mergeSort(a, from, to, c);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new SortTask<>(a, new Object[to - from], from, from, to, c));
+    }
+
+    private static <T> void mergeSort(T[] a, Object[] buffer, int base, int from, int to, Comparator<? super T> c){
+        if(to - from <= INSERTION_THRESHOLD){
+            insertionSort(a, from, to, c);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(a, buffer, base, from, mid, c);
+        mergeSort(a, buffer, base, mid, to, c);
+        merge(a, buffer, base, from, mid, to, c);
+    }
+
+    private static <T> void insertionSort(T[] a, int from, int to, Comparator<? super T> c){
+        for(int i = from + 1; i < to; i = i + 1){
+            T t = a[i];
+            int j = i - 1;
+            // Strictly greater , so equal elements keep their order.
+            while(j >= from && c.compare(a[j], t) > 0){
+                a[j + 1] = a[j];
+                j = j - 1;
+            }
+            a[j + 1] = t;
+        }
+    }
+
+    // Merges the sorted runs [from,mid) and [mid,to), only the left run is copied out to buffer[from-base,mid-base).
+    private static <T> void merge(T[] a, Object[] buffer, int base, int from, int mid, int to, Comparator<? super T> c){
+        if(c.compare(a[mid - 1], a[mid]) <= 0){
+            return;
+        }
+        System.arraycopy(a, from, buffer, from - base, mid - from);
+
+        int i = from - base;
+        int end = mid - base;
+        int j = mid;
+        int k = from;
+        while(i < end && j < to){
+            @SuppressWarnings("unchecked") T left = (T) buffer[i];
+            if(c.compare(a[j], left) < 0){
+                a[k++] = a[j++];
+            }else{
+                a[k++] = left;
+                i = i + 1;
+            }
+        }
+        System.arraycopy(buffer, i, a, k, end - i);
+    }
+
+    private static class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] a;
+        private final Object[] buffer;
+        private final int base;
+        private final int from;
+        private final int to;
+        private final Comparator<? super T> c;
+
+        private SortTask(T[] a, Object[] buffer, int base, int from, int to, Comparator<? super T> c){
+            this.a = a;
+            this.buffer = buffer;
+            this.base = base;
+            this.from = from;
+            this.to = to;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= PARALLEL_THRESHOLD){
+                mergeSort(a, buffer, base, from, to, c);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask<>(a, buffer, base, from, mid, c), new SortTask<>(a, buffer, base, mid, to, c));
+            merge(a, buffer, base, from, mid, to, c);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package rul.container;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Buffered little endian reader over a ReadableByteChannel , the source of ContainerCodec and ElementCodec.
+ *
+ * The channel is read a large buffer at a time and values are decoded out of the buffer, arrays in bulk. Buffers
+ * filled through readFully(ByteBuffer) take whatever is buffered and then read from the channel directly.
+ *
+ * Every read throws EOFException if the channel ends first. close() doesn't close the channel.
+ */
+public final class ChannelInput implements AutoCloseable {
+
+    /** The default buffer size, 1MiB. */
+    public static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+
+    private final ReadableByteChannel channel;
+    // Kept in read mode , the unread bytes are [position,limit).
+    private final ByteBuffer buffer;
+
+    public ChannelInput(ReadableByteChannel channel){
+        this(channel, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * @param channel The channel read from.
+     * @param bufferBytes The size of the buffer, at least 8.
+     * @throws IllegalArgumentException If bufferBytes is less than 8.
+     */
+    public ChannelInput(ReadableByteChannel channel, int bufferBytes){
+        if(bufferBytes < Long.BYTES){
+            throw new IllegalArgumentException();
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.buffer.limit(0);
+    }
+
+    public byte readByte() throws IOException {
+        ensure(Byte.BYTES);
+        return buffer.get();
+    }
+
+    public int readInt() throws IOException {
+        ensure(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    public long readLong() throws IOException {
+        ensure(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    public double readDouble() throws IOException {
+        ensure(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    /**
+     * Reads a string written by ChannelOutput.writeString.
+     * @return The string.
+     * @throws IOException If the channel fails or ends first.
+     */
+    public String readString() throws IOException {
+        int length = readInt();
+        if(length < 0){
+            throw new IOException("Negative string length " + length);
+        }
+        // The length isn't trusted , the array grows as the bytes actually arrive.
+        byte[] bytes = new byte[Math.min(length, buffer.capacity())];
+        int read = 0;
+        while(read < length){
+            if(read == bytes.length){
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+            }
+            int n = bytes.length - read;
+            readBytes(bytes, read, n);
+            read = read + n;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public void readBytes(byte[] a, int offset, int length) throws IOException {
+        while(length > 0){
+            ensure(1);
+            int n = Math.min(length, buffer.remaining());
+            buffer.get(a, offset, n);
+            offset = offset + n;
+            length = length - n;
+        }
+    }
+
+    public void readInts(int[] a, int offset, int length) throws IOException {
+        while(length > 0){
+            ensure(Integer.BYTES);
+            int n = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(a, offset, n);
+            buffer.position(buffer.position() + n * Integer.BYTES);
+            offset = offset + n;
+            length = length - n;
+        }
+    }
+
+    public void readLongs(long[] a, int offset, int length) throws IOException {
+        while(length > 0){
+            ensure(Long.BYTES);
+            int n = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(a, offset, n);
+            buffer.position(buffer.position() + n * Long.BYTES);
+            offset = offset + n;
+            length = length - n;
+        }
+    }
+
+    public void readDoubles(double[] a, int offset, int length) throws IOException {
+        while(length > 0){
+            ensure(Double.BYTES);
+            int n = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().get(a, offset, n);
+            buffer.position(buffer.position() + n * Double.BYTES);
+            offset = offset + n;
+            length = length - n;
+        }
+    }
+
+    /**
+     * Fills the remaining space of dst with the next bytes as they are.
+     * @param dst The buffer to fill.
+     * @throws IOException If the channel fails or ends first.
+     */
+    public void readFully(ByteBuffer dst) throws IOException {
+        if(buffer.hasRemaining()){
+            int n = Math.min(buffer.remaining(), dst.remaining());
+            dst.put(dst.position(), buffer, buffer.position(), n);
+            dst.position(dst.position() + n);
+            buffer.position(buffer.position() + n);
+        }
+        while(dst.hasRemaining()){
+            if(channel.read(dst) < 0){
+                throw new EOFException();
+            }
+        }
+    }
+
+    // The size of the buffer , how much the readers allocate before any data has arrived.
+    int bufferBytes(){
+        return buffer.capacity();
+    }
+
+    /**
+     * Drops the buffered bytes , the channel stays open.
+     */
+    @Override
+    public void close(){
+        buffer.limit(0);
+    }
+
+    // Makes sure at least bytes bytes are buffered , bytes is at most 8.
+    private void ensure(int bytes) throws IOException {
+        if(buffer.remaining() >= bytes){
+            return;
+        }
+        buffer.compact();
+        try{
+            while(buffer.position() < bytes){
+                if(channel.read(buffer) < 0){
+                    throw new EOFException();
+                }
+            }
+        }finally{
+            buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package rul.container;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered little endian writer over a WritableByteChannel , the sink of ContainerCodec and ElementCodec.
+ *
+ * Values are gathered in a single large buffer that is handed to the channel whenever it fills, so the channel
+ * sees few large writes no matter how small the values are. Arrays are copied into the buffer in bulk, and
+ * buffers written through write(ByteBuffer) go to the channel directly.
+ *
+ * Output is buffered , only what is still in the buffer needs flush() or close() to reach the channel.
+ * close() doesn't close the channel.
+ */
+public final class ChannelOutput implements AutoCloseable {
+
+    /** The default buffer size, 1MiB. */
+    public static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    public ChannelOutput(WritableByteChannel channel){
+        this(channel, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * @param channel The channel written to.
+     * @param bufferBytes The size of the buffer, at least 8.
+     * @throws IllegalArgumentException If bufferBytes is less than 8.
+     */
+    public ChannelOutput(WritableByteChannel channel, int bufferBytes){
+        if(bufferBytes < Long.BYTES){
+            throw new IllegalArgumentException();
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public void writeByte(byte value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    public void writeInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    public void writeDouble(double value) throws IOException {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    /**
+     * Writes the length of value followed by its UTF-8 bytes.
+     * @param value The string.
+     * @throws IOException If the channel fails.
+     */
+    public void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    public void writeBytes(byte[] a, int offset, int length) throws IOException {
+        while(length > 0){
+            ensure(1);
+            int n = Math.min(length, buffer.remaining());
+            buffer.put(a, offset, n);
+            offset = offset + n;
+            length = length - n;
+        }
+    }
+
+    public void writeInts(int[] a, int offset, int length) throws IOException {
+        while(length > 0){
+            ensure(Integer.BYTES);
+            int n = Math.min(length, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().put(a, offset, n);
+            buffer.position(buffer.position() + n * Integer.BYTES);
+            offset = offset + n;
+            length = length - n;
+        }
+    }
+
+    public void writeLongs(long[] a, int offset, int length) throws IOException {
+        while(length > 0){
+            ensure(Long.BYTES);
+            int n = Math.min(length, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(a, offset, n);
+            buffer.position(buffer.position() + n * Long.BYTES);
+            offset = offset + n;
+            length = length - n;
+        }
+    }
+
+    public void writeDoubles(double[] a, int offset, int length) throws IOException {
+        while(length > 0){
+            ensure(Double.BYTES);
+            int n = Math.min(length, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(a, offset, n);
+            buffer.position(buffer.position() + n * Double.BYTES);
+            offset = offset + n;
+            length = length - n;
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of src as they are , straight to the channel after flushing the buffer.
+     * @param src The bytes, consumed.
+     * @throws IOException If the channel fails.
+     */
+    public void write(ByteBuffer src) throws IOException {
+        flush();
+        while(src.hasRemaining()){
+            channel.write(src);
+        }
+    }
+
+    /**
+     * Hands everything buffered to the channel.
+     * @throws IOException If the channel fails.
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while(buffer.hasRemaining()){
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes , the channel stays open.
+     * @throws IOException If the channel fails.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if(buffer.remaining() < bytes){
+            flush();
+        }
+    }
+}
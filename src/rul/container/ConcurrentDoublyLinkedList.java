@@ -0,0 +1,829 @@
+package rul.container;
+
+import rul.iterator.BidirectionalIterator;
+import rul.iterator.ReverseBidirectionalIterator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A lock-free DoublyLinkedList for multi-producer/multi-consumer deques.
+ *
+ * The algorithm is the one of java.util.concurrent.ConcurrentLinkedDeque, written by Doug Lea and Martin Buchholz
+ * and released to the public domain. In short:
+ *
+ * An element is added by CASing the prev link of the first node (or the next link of the last node) from null to
+ * the new node. An element is removed by CASing its node's item to null , the node is then unlinked on a best effort
+ * basis: the live nodes around it are linked to each other and , when the node sits at an end, its own links are
+ * pointed to itself or to a terminator so that nothing stale keeps it reachable. head and tail are only hints from
+ * which the first and last nodes are reachable in a couple of hops.
+ *
+ * Null elements aren't allowed since a null item marks a removed node. Iterators are weakly consistent: they never
+ * throw because of concurrent modification, return every element that was present for the whole traversal at most
+ * once , and may or may not see elements added or removed meanwhile. size() is a counter maintained next to the
+ * list and is only exact when the list is quiescent.
+ */
+@SuppressWarnings("unused")
+public class ConcurrentDoublyLinkedList<T> extends Container<T> {
+
+    // Number of dead nodes tolerated next to an end before they're squeezed out.
+    private static final int HOPS = 2;
+
+    private static final Node<Object> PREV_TERMINATOR;
+    private static final Node<Object> NEXT_TERMINATOR;
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle PREV;
+    private static final VarHandle NEXT;
+    private static final VarHandle ITEM;
+
+    static {
+        PREV_TERMINATOR = new Node<>();
+        PREV_TERMINATOR.next = PREV_TERMINATOR;
+        NEXT_TERMINATOR = new Node<>();
+        NEXT_TERMINATOR.prev = NEXT_TERMINATOR;
+        try {
+            MethodHandles.Lookup l = MethodHandles.lookup();
+            HEAD = l.findVarHandle(ConcurrentDoublyLinkedList.class, "head", Node.class);
+            TAIL = l.findVarHandle(ConcurrentDoublyLinkedList.class, "tail", Node.class);
+            PREV = l.findVarHandle(Node.class, "prev", Node.class);
+            NEXT = l.findVarHandle(Node.class, "next", Node.class);
+            ITEM = l.findVarHandle(Node.class, "item", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // The first node is reachable from head through prev links in O(1) hops.
+    private volatile Node<T> head;
+    // The last node is reachable from tail through next links in O(1) hops.
+    private volatile Node<T> tail;
+
+    private final LongAdder count = new LongAdder();
+
+    public ConcurrentDoublyLinkedList(){
+        head = tail = new Node<>();
+    }
+
+    // Iterators
+
+    /**
+     * @return Weakly consistent iterator pointing to the first element. Or an invalid iterator if the list is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public BidirectionalIterator<T> begin(){
+        return new CDLLIterator(null).inc();
+    }
+
+    /**
+     * @return Iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public BidirectionalIterator<T> end(){
+        return new CDLLIterator(null);
+    }
+
+    /**
+     * @return Reverse iterator pointing to the first element. Or an invalid iterator if the list is empty.
+     * @complexity O(1).
+     */
+    public BidirectionalIterator<T> reverseEnd(){
+        return new ReverseBidirectionalIterator<>(new CDLLIterator(null));
+    }
+
+    /**
+     * @return Weakly consistent reverse iterator pointing to the last element. Or an invalid iterator if the list is
+     * empty.
+     * @complexity O(1).
+     */
+    public BidirectionalIterator<T> reverseBegin(){
+        return new ReverseBidirectionalIterator<>(new CDLLIterator(null).dec());
+    }
+
+    /**
+     * Performs action on every element from front to back, weakly consistent like the iterators.
+     * @param action The action to be performed.
+     * @complexity O(n).
+     */
+    @Override
+    public void forEach(Consumer<? super T> action){
+        Objects.requireNonNull(action);
+        T item;
+        for(Node<T> p = first(); p != null; p = succ(p)){
+            if((item = p.item) != null){
+                action.accept(item);
+            }
+        }
+    }
+
+    /**
+     * @return A weakly consistent spliterator of unknown size.
+     * @complexity O(1).
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    // Capacity
+
+    /**
+     * @return The number of elements, only exact when no other thread modifies the list.
+     * @complexity O(1) for a fixed number of contending threads.
+     */
+    @Override
+    public int size(){
+        long n = count.sum();
+        return n < 0 ? 0 : (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return Whether the list had no elements at some point during the call.
+     * @complexity O(1).
+     */
+    @Override
+    public boolean isEmpty(){
+        return peekFront() == null;
+    }
+
+    // Element Access
+
+    /**
+     * @return The first element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     * @complexity O(1).
+     */
+    public T getFront(){
+        T t = peekFront();
+        if(t == null){
+            throw new NoSuchElementException();
+        }
+        return t;
+    }
+
+    /**
+     * @return The first element of the list or null if list is empty.
+     * @complexity O(1).
+     */
+    public T peekFront(){
+        restart:
+        for(;;){
+            T item;
+            Node<T> first = first(), p = first;
+            while((item = p.item) == null){
+                if(p == (p = p.next)){
+                    continue restart;
+                }
+                if(p == null){
+                    break;
+                }
+            }
+            // Recheck for linearizability.
+            if(first.prev != null){
+                continue;
+            }
+            return item;
+        }
+    }
+
+    /**
+     * @return The last element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     * @complexity O(1).
+     */
+    public T getBack(){
+        T t = peekBack();
+        if(t == null){
+            throw new NoSuchElementException();
+        }
+        return t;
+    }
+
+    /**
+     * @return The last element of the list or null if list is empty.
+     * @complexity O(1).
+     */
+    public T peekBack(){
+        restart:
+        for(;;){
+            T item;
+            Node<T> last = last(), p = last;
+            while((item = p.item) == null){
+                if(p == (p = p.prev)){
+                    continue restart;
+                }
+                if(p == null){
+                    break;
+                }
+            }
+            // Recheck for linearizability.
+            if(last.next != null){
+                continue;
+            }
+            return item;
+        }
+    }
+
+    // Modifiers
+
+    /**
+     * Insert element on the front of the list.
+     * @param obj The obj to be inserted.
+     * @throws NullPointerException If obj is null.
+     * @complexity O(1).
+     */
+    public void pushFront(T obj){
+        final Node<T> newNode = newNode(Objects.requireNonNull(obj));
+
+        restart:
+        for(;;){
+            for(Node<T> h = head, p = h, q;;){
+                if((q = p.prev) != null && (q = (p = q).prev) != null){
+                    // Check for head updates every other hop.
+                    p = (h != (h = head)) ? h : q;
+                }else if(p.next == p){
+                    // PREV_TERMINATOR
+                    continue restart;
+                }else{
+                    // p is the first node.
+                    NEXT.set(newNode, p);
+                    if(PREV.compareAndSet(p, null, newNode)){
+                        if(p != h){
+                            HEAD.weakCompareAndSet(this, h, newNode);
+                        }
+                        count.increment();
+                        return;
+                    }
+                    // Lost the race to another thread, re-read prev.
+                }
+            }
+        }
+    }
+
+    /**
+     * Insert element on the back of the list.
+     * @param obj The obj to be inserted.
+     * @throws NullPointerException If obj is null.
+     * @complexity O(1).
+     */
+    public void pushBack(T obj){
+        final Node<T> newNode = newNode(Objects.requireNonNull(obj));
+
+        restart:
+        for(;;){
+            for(Node<T> t = tail, p = t, q;;){
+                if((q = p.next) != null && (q = (p = q).next) != null){
+                    // Check for tail updates every other hop.
+                    p = (t != (t = tail)) ? t : q;
+                }else if(p.prev == p){
+                    // NEXT_TERMINATOR
+                    continue restart;
+                }else{
+                    // p is the last node.
+                    PREV.set(newNode, p);
+                    if(NEXT.compareAndSet(p, null, newNode)){
+                        if(p != t){
+                            TAIL.weakCompareAndSet(this, t, newNode);
+                        }
+                        count.increment();
+                        return;
+                    }
+                    // Lost the race to another thread, re-read next.
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the first element.
+     * @return The removed element or null if the list is empty.
+     * @complexity O(1).
+     */
+    public T pollFront(){
+        restart:
+        for(;;){
+            for(Node<T> first = first(), p = first;;){
+                final T item;
+                if((item = p.item) != null){
+                    // Recheck for linearizability.
+                    if(first.prev != null){
+                        continue restart;
+                    }
+                    if(ITEM.compareAndSet(p, item, null)){
+                        count.decrement();
+                        unlink(p);
+                        return item;
+                    }
+                }
+                if(p == (p = p.next)){
+                    continue restart;
+                }
+                if(p == null){
+                    if(first.prev != null){
+                        continue restart;
+                    }
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the first element.
+     * @return The removed element.
+     * @throws NoSuchElementException if the list is empty.
+     * @complexity O(1).
+     */
+    public T popFront(){
+        T t = pollFront();
+        if(t == null){
+            throw new NoSuchElementException();
+        }
+        return t;
+    }
+
+    /**
+     * Removes the last element.
+     * @return The removed element or null if the list is empty.
+     * @complexity O(1).
+     */
+    public T pollBack(){
+        restart:
+        for(;;){
+            for(Node<T> last = last(), p = last;;){
+                final T item;
+                if((item = p.item) != null){
+                    // Recheck for linearizability.
+                    if(last.next != null){
+                        continue restart;
+                    }
+                    if(ITEM.compareAndSet(p, item, null)){
+                        count.decrement();
+                        unlink(p);
+                        return item;
+                    }
+                }
+                if(p == (p = p.prev)){
+                    continue restart;
+                }
+                if(p == null){
+                    if(last.next != null){
+                        continue restart;
+                    }
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the last element.
+     * @return The removed element.
+     * @throws NoSuchElementException if the list is empty.
+     * @complexity O(1).
+     */
+    public T popBack(){
+        T t = pollBack();
+        if(t == null){
+            throw new NoSuchElementException();
+        }
+        return t;
+    }
+
+    /**
+     * Removes every element present when the call started, elements added concurrently may survive.
+     * @complexity O(n).
+     */
+    public void clear(){
+        while(pollFront() != null){
+            // Keep going.
+        }
+    }
+
+    // Unlinking , see the class documentation.
+
+    private static <T> Node<T> newNode(T item){
+        Node<T> node = new Node<>();
+        // Relaxed write , the node is published by the CAS linking it.
+        ITEM.set(node, item);
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T> prevTerminator(){
+        return (Node<T>) PREV_TERMINATOR;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T> nextTerminator(){
+        return (Node<T>) NEXT_TERMINATOR;
+    }
+
+    private void unlink(Node<T> x){
+        final Node<T> prev = x.prev;
+        final Node<T> next = x.next;
+        if(prev == null){
+            unlinkFirst(x, next);
+        }else if(next == null){
+            unlinkLast(x, prev);
+        }else{
+            // Find the live (or end) nodes around x and link them to each other, leaving x unreachable from them.
+            // If x sits next to an end, also point x's own links at itself / a terminator.
+            Node<T> activePred, activeSucc;
+            boolean isFirst, isLast;
+            int hops = 1;
+
+            for(Node<T> p = prev; ; ++hops){
+                if(p.item != null){
+                    activePred = p;
+                    isFirst = false;
+                    break;
+                }
+                Node<T> q = p.prev;
+                if(q == null){
+                    if(p.next == p){
+                        return;
+                    }
+                    activePred = p;
+                    isFirst = true;
+                    break;
+                }else if(p == q){
+                    return;
+                }else{
+                    p = q;
+                }
+            }
+
+            for(Node<T> p = next; ; ++hops){
+                if(p.item != null){
+                    activeSucc = p;
+                    isLast = false;
+                    break;
+                }
+                Node<T> q = p.next;
+                if(q == null){
+                    if(p.prev == p){
+                        return;
+                    }
+                    activeSucc = p;
+                    isLast = true;
+                    break;
+                }else if(p == q){
+                    return;
+                }else{
+                    p = q;
+                }
+            }
+
+            // Interior dead nodes are always squeezed out, a couple of them next to an end are tolerated.
+            if(hops < HOPS && (isFirst | isLast)){
+                return;
+            }
+
+            skipDeletedSuccessors(activePred);
+            skipDeletedPredecessors(activeSucc);
+
+            if((isFirst | isLast)
+                    && activePred.next == activeSucc
+                    && activeSucc.prev == activePred
+                    && (isFirst ? activePred.prev == null : activePred.item != null)
+                    && (isLast ? activeSucc.next == null : activeSucc.item != null)){
+
+                // Make sure x isn't reachable from head or tail , then gc-unlink it.
+                updateHead();
+                updateTail();
+
+                PREV.setRelease(x, isFirst ? prevTerminator() : x);
+                NEXT.setRelease(x, isLast ? nextTerminator() : x);
+            }
+        }
+    }
+
+    private void unlinkFirst(Node<T> first, Node<T> next){
+        for(Node<T> o = null, p = next, q;;){
+            if(p.item != null || (q = p.next) == null){
+                if(o != null && p.prev != p && NEXT.compareAndSet(first, next, p)){
+                    skipDeletedPredecessors(p);
+                    if(first.prev == null && (p.next == null || p.item != null) && p.prev == first){
+                        updateHead();
+                        updateTail();
+
+                        NEXT.setRelease(o, o);
+                        PREV.setRelease(o, prevTerminator());
+                    }
+                }
+                return;
+            }else if(p == q){
+                return;
+            }else{
+                o = p;
+                p = q;
+            }
+        }
+    }
+
+    private void unlinkLast(Node<T> last, Node<T> prev){
+        for(Node<T> o = null, p = prev, q;;){
+            if(p.item != null || (q = p.prev) == null){
+                if(o != null && p.next != p && PREV.compareAndSet(last, prev, p)){
+                    skipDeletedSuccessors(p);
+                    if(last.next == null && (p.prev == null || p.item != null) && p.next == last){
+                        updateHead();
+                        updateTail();
+
+                        PREV.setRelease(o, o);
+                        NEXT.setRelease(o, nextTerminator());
+                    }
+                }
+                return;
+            }else if(p == q){
+                return;
+            }else{
+                o = p;
+                p = q;
+            }
+        }
+    }
+
+    // Once this returns, no node unlinked before the call is reachable from head.
+    private void updateHead(){
+        Node<T> h, p, q;
+        restart:
+        while((h = head).item == null && (p = h.prev) != null){
+            for(;;){
+                if((q = p.prev) == null || (q = (p = q).prev) == null){
+                    // p may be PREV_TERMINATOR, in which case the CAS fails.
+                    if(HEAD.compareAndSet(this, h, p)){
+                        return;
+                    }else{
+                        continue restart;
+                    }
+                }else if(h != head){
+                    continue restart;
+                }else{
+                    p = q;
+                }
+            }
+        }
+    }
+
+    // Once this returns, no node unlinked before the call is reachable from tail.
+    private void updateTail(){
+        Node<T> t, p, q;
+        restart:
+        while((t = tail).item == null && (p = t.next) != null){
+            for(;;){
+                if((q = p.next) == null || (q = (p = q).next) == null){
+                    // p may be NEXT_TERMINATOR, in which case the CAS fails.
+                    if(TAIL.compareAndSet(this, t, p)){
+                        return;
+                    }else{
+                        continue restart;
+                    }
+                }else if(t != tail){
+                    continue restart;
+                }else{
+                    p = q;
+                }
+            }
+        }
+    }
+
+    private void skipDeletedPredecessors(Node<T> x){
+        whileActive:
+        do{
+            Node<T> prev = x.prev;
+            Node<T> p = prev;
+            for(;;){
+                if(p.item != null){
+                    break;
+                }
+                Node<T> q = p.prev;
+                if(q == null){
+                    if(p.next == p){
+                        continue whileActive;
+                    }
+                    break;
+                }else if(p == q){
+                    continue whileActive;
+                }else{
+                    p = q;
+                }
+            }
+
+            if(prev == p || PREV.compareAndSet(x, prev, p)){
+                return;
+            }
+        }while(x.item != null || x.next == null);
+    }
+
+    private void skipDeletedSuccessors(Node<T> x){
+        whileActive:
+        do{
+            Node<T> next = x.next;
+            Node<T> p = next;
+            for(;;){
+                if(p.item != null){
+                    break;
+                }
+                Node<T> q = p.next;
+                if(q == null){
+                    if(p.prev == p){
+                        continue whileActive;
+                    }
+                    break;
+                }else if(p == q){
+                    continue whileActive;
+                }else{
+                    p = q;
+                }
+            }
+
+            if(next == p || NEXT.compareAndSet(x, next, p)){
+                return;
+            }
+        }while(x.item != null || x.prev == null);
+    }
+
+    // Traversal
+
+    // The successor of p, or the first node if p has been unlinked meanwhile.
+    private Node<T> succ(Node<T> p){
+        if(p == (p = p.next)){
+            p = first();
+        }
+        return p;
+    }
+
+    // The predecessor of p, or the last node if p has been unlinked meanwhile.
+    private Node<T> pred(Node<T> p){
+        if(p == (p = p.prev)){
+            p = last();
+        }
+        return p;
+    }
+
+    // The unique node with prev == null that isn't unlinked, it may be a removed one. Moves head to it.
+    private Node<T> first(){
+        restart:
+        for(;;){
+            for(Node<T> h = head, p = h, q;;){
+                if((q = p.prev) != null && (q = (p = q).prev) != null){
+                    p = (h != (h = head)) ? h : q;
+                }else if(p == h || HEAD.compareAndSet(this, h, p)){
+                    return p;
+                }else{
+                    continue restart;
+                }
+            }
+        }
+    }
+
+    // The unique node with next == null that isn't unlinked, it may be a removed one. Moves tail to it.
+    private Node<T> last(){
+        restart:
+        for(;;){
+            for(Node<T> t = tail, p = t, q;;){
+                if((q = p.next) != null && (q = (p = q).next) != null){
+                    p = (t != (t = tail)) ? t : q;
+                }else if(p == t || TAIL.compareAndSet(this, t, p)){
+                    return p;
+                }else{
+                    continue restart;
+                }
+            }
+        }
+    }
+
+    /**
+     * A weakly consistent iterator. The element is read when the iterator lands on a node, so get() keeps
+     * returning it even if it gets removed concurrently.
+     */
+    private class CDLLIterator implements BidirectionalIterator<T> {
+
+        private Node<T> node;
+        private T item;
+
+        private CDLLIterator(Node<T> node){
+            this.node = node;
+            this.item = node != null ? node.item : null;
+        }
+
+        private CDLLIterator(Node<T> node, T item){
+            this.node = node;
+            this.item = item;
+        }
+
+        @Override
+        public T get() {
+            if(node == null){
+                throw new NoSuchElementException();
+            }
+            return item;
+        }
+
+        /**
+         * Replaces the element, if it hasn't been removed meanwhile.
+         * @throws IllegalStateException If the element was removed or replaced concurrently.
+         */
+        @Override
+        public void set(T t) {
+            Objects.requireNonNull(t);
+            if(node == null || !ITEM.compareAndSet(node, item, t)){
+                throw new IllegalStateException();
+            }
+            item = t;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        @Override
+        public T next() {
+            T t = get();
+            inc();
+            return t;
+        }
+
+        @Override
+        public BidirectionalIterator<T> inc() {
+            Node<T> p = node == null ? first() : succ(node);
+            for(; p != null; p = succ(p)){
+                T t = p.item;
+                if(t != null){
+                    node = p;
+                    item = t;
+                    return this;
+                }
+            }
+            node = null;
+            item = null;
+            return this;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            Node<T> p = node == null ? last() : pred(node);
+            for(; p != null; p = pred(p)){
+                if(p.item != null){
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public BidirectionalIterator<T> dec() {
+            Node<T> p = node == null ? last() : pred(node);
+            for(; p != null; p = pred(p)){
+                T t = p.item;
+                if(t != null){
+                    node = p;
+                    item = t;
+                    return this;
+                }
+            }
+            node = null;
+            item = null;
+            return this;
+        }
+
+        @Override
+        public T previous() {
+            return dec().get();
+        }
+
+        @Override
+        public boolean equals(Object s) {
+            if(getClass() != s.getClass()){
+                return false;
+            }else{
+                @SuppressWarnings("unchecked") CDLLIterator obj = (CDLLIterator) s;
+                return node == obj.node;
+            }
+        }
+
+        @Override
+        public BidirectionalIterator<T> clone() {
+            return new CDLLIterator(node, item);
+        }
+    }
+
+    private static final class Node<T> {
+        volatile Node<T> prev;
+        volatile T item;
+        volatile Node<T> next;
+    }
+}
@@ -3,6 +3,10 @@ package rul.container;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 abstract public class Container<T> implements Iterable<T> {
     protected int size = 0;
@@ -19,6 +23,33 @@ abstract public class Container<T> implements Iterable<T> {
         return begin();
     }
 
+    /**
+     * Containers know their size, so unlike Iterable's default the spliterator reports SIZED and parallel streams
+     * split it into batches. Containers with a better way to split override this.
+     * @return A spliterator over the elements of the container.
+     * @complexity O(1).
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * @return A sequential Stream over the elements of the container.
+     * @complexity O(1).
+     */
+    public Stream<T> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return A possibly parallel Stream over the elements of the container.
+     * @complexity O(1).
+     */
+    public Stream<T> parallelStream(){
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * @return Whether the list is empty or not.
      * @complexity O(1).
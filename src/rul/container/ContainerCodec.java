@@ -0,0 +1,308 @@
+package rul.container;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Compact binary format for the containers , streamed through ChannelOutput and ChannelInput.
+ *
+ * A container is written as a one byte tag naming the element layout , a little endian long with the number of
+ * elements and then the elements themselves:
+ * - 'O' : objects, each written by an ElementCodec. Vector and DoublyLinkedList share it, so either can be read
+ *         back as the other.
+ * - 'I', 'J', 'D' : raw little endian ints, longs and doubles, shared by the primitive vectors of each type and, for
+ *         longs and doubles, by their off heap counterparts.
+ *
+ * Primitive vectors are copied between their storage and the stream buffer in bulk , off heap vectors go between
+ * their native blocks and the channel directly when the platform is little endian. Neither builds a boxed or
+ * intermediate object per element.
+ *
+ * Sizes read from a stream aren't trusted: readers allocate at most a buffer's worth up front and grow as the
+ * elements actually arrive, so a truncated or forged header ends in EOFException rather than a huge allocation.
+ */
+public final class ContainerCodec {
+
+    private static final byte OBJECT = 'O';
+    private static final byte INT = 'I';
+    private static final byte LONG = 'J';
+    private static final byte DOUBLE = 'D';
+
+    private static final boolean RAW = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    private ContainerCodec(){}
+
+    // Object containers
+
+    /**
+     * @param vector The vector to write.
+     * @param codec Writes every element.
+     * @param out The destination.
+     * @throws IOException If the channel fails.
+     * @complexity O(n).
+     */
+    public static <T> void write(Vector<T> vector, ElementCodec<? super T> codec, ChannelOutput out)
+            throws IOException {
+        writeHeader(out, OBJECT, vector.size());
+        for(int i = 0, n = vector.size(); i < n; i = i + 1){
+            codec.write(vector.get(i), out);
+        }
+    }
+
+    /**
+     * @param list The list to write.
+     * @param codec Writes every element.
+     * @param out The destination.
+     * @throws IOException If the channel fails.
+     * @complexity O(n).
+     */
+    public static <T> void write(DoublyLinkedList<T> list, ElementCodec<? super T> codec, ChannelOutput out)
+            throws IOException {
+        writeHeader(out, OBJECT, list.size());
+        for(T t : list){
+            codec.write(t, out);
+        }
+    }
+
+    /**
+     * @param codec Reads every element.
+     * @param in The source.
+     * @return A vector allocated at its final size holding the elements read.
+     * @throws IOException If the channel fails or ends early, or the next container isn't an object one.
+     * @complexity O(n).
+     */
+    public static <T> Vector<T> readVector(ElementCodec<? extends T> codec, ChannelInput in) throws IOException {
+        int n = readIntHeader(in, OBJECT);
+        Vector<T> vector = new Vector<>(initialCapacity(n, in, Long.BYTES));
+        for(int i = 0; i < n; i = i + 1){
+            vector.pushBack(codec.read(in));
+        }
+        return vector;
+    }
+
+    /**
+     * @param codec Reads every element.
+     * @param in The source.
+     * @return A list holding the elements read.
+     * @throws IOException If the channel fails or ends early, or the next container isn't an object one.
+     * @complexity O(n).
+     */
+    public static <T> DoublyLinkedList<T> readDoublyLinkedList(ElementCodec<? extends T> codec, ChannelInput in)
+            throws IOException {
+        int n = readIntHeader(in, OBJECT);
+        DoublyLinkedList<T> list = new DoublyLinkedList<>();
+        for(int i = 0; i < n; i = i + 1){
+            list.pushBack(codec.read(in));
+        }
+        return list;
+    }
+
+    // Primitive vectors
+
+    public static void write(IntVector vector, ChannelOutput out) throws IOException {
+        writeHeader(out, INT, vector.size());
+        out.writeInts(vector.array(), 0, vector.size());
+    }
+
+    public static void write(LongVector vector, ChannelOutput out) throws IOException {
+        writeHeader(out, LONG, vector.size());
+        out.writeLongs(vector.array(), 0, vector.size());
+    }
+
+    public static void write(DoubleVector vector, ChannelOutput out) throws IOException {
+        writeHeader(out, DOUBLE, vector.size());
+        out.writeDoubles(vector.array(), 0, vector.size());
+    }
+
+    public static IntVector readIntVector(ChannelInput in) throws IOException {
+        int n = readIntHeader(in, INT);
+        IntVector vector = new IntVector(initialCapacity(n, in, Integer.BYTES));
+        int step = in.bufferBytes() / Integer.BYTES;
+        while(vector.size < n){
+            int k = Math.min(n - vector.size, step);
+            reserve(vector, vector.size + k, n);
+            in.readInts(vector.array(), vector.size, k);
+            vector.size = vector.size + k;
+        }
+        return vector;
+    }
+
+    public static LongVector readLongVector(ChannelInput in) throws IOException {
+        int n = readIntHeader(in, LONG);
+        LongVector vector = new LongVector(initialCapacity(n, in, Long.BYTES));
+        int step = in.bufferBytes() / Long.BYTES;
+        while(vector.size < n){
+            int k = Math.min(n - vector.size, step);
+            reserve(vector, vector.size + k, n);
+            in.readLongs(vector.array(), vector.size, k);
+            vector.size = vector.size + k;
+        }
+        return vector;
+    }
+
+    public static DoubleVector readDoubleVector(ChannelInput in) throws IOException {
+        int n = readIntHeader(in, DOUBLE);
+        DoubleVector vector = new DoubleVector(initialCapacity(n, in, Double.BYTES));
+        int step = in.bufferBytes() / Double.BYTES;
+        while(vector.size < n){
+            int k = Math.min(n - vector.size, step);
+            reserve(vector, vector.size + k, n);
+            in.readDoubles(vector.array(), vector.size, k);
+            vector.size = vector.size + k;
+        }
+        return vector;
+    }
+
+    // Off heap vectors
+
+    public static void write(OffHeapLongVector vector, ChannelOutput out) throws IOException {
+        vector.ensureOpen();
+        writeHeader(out, LONG, vector.longSize());
+        if(RAW){
+            writeChunks(vector, out);
+        }else{
+            for(long i = 0; i < vector.longSize(); i = i + 1){
+                out.writeLong(vector.get(i));
+            }
+        }
+    }
+
+    public static void write(OffHeapDoubleVector vector, ChannelOutput out) throws IOException {
+        vector.ensureOpen();
+        writeHeader(out, DOUBLE, vector.longSize());
+        if(RAW){
+            writeChunks(vector, out);
+        }else{
+            for(long i = 0; i < vector.longSize(); i = i + 1){
+                out.writeDouble(vector.get(i));
+            }
+        }
+    }
+
+    /**
+     * @param in The source.
+     * @return A new off heap vector , with the default block size, holding the elements read.
+     * @throws IOException If the channel fails or ends early, or the next container isn't a long one.
+     * @complexity O(n).
+     */
+    public static OffHeapLongVector readOffHeapLongVector(ChannelInput in) throws IOException {
+        long n = readHeader(in, LONG);
+        OffHeapLongVector vector = new OffHeapLongVector(0);
+        try{
+            if(RAW){
+                readChunks(vector, n, in);
+            }else{
+                for(long i = 0; i < n; i = i + 1){
+                    vector.pushBack(in.readLong());
+                }
+            }
+        }catch(IOException | RuntimeException e){
+            vector.close();
+            throw e;
+        }
+        return vector;
+    }
+
+    /**
+     * @param in The source.
+     * @return A new off heap vector , with the default block size, holding the elements read.
+     * @throws IOException If the channel fails or ends early, or the next container isn't a double one.
+     * @complexity O(n).
+     */
+    public static OffHeapDoubleVector readOffHeapDoubleVector(ChannelInput in) throws IOException {
+        long n = readHeader(in, DOUBLE);
+        OffHeapDoubleVector vector = new OffHeapDoubleVector(0);
+        try{
+            if(RAW){
+                readChunks(vector, n, in);
+            }else{
+                for(long i = 0; i < n; i = i + 1){
+                    vector.pushBack(in.readDouble());
+                }
+            }
+        }catch(IOException | RuntimeException e){
+            vector.close();
+            throw e;
+        }
+        return vector;
+    }
+
+    // Hands the used part of every native block to the channel as it is.
+    private static void writeChunks(OffHeapVector<?> vector, ChannelOutput out) throws IOException {
+        long perChunk = 1L << vector.chunkShift;
+        for(int i = 0; (long) i << vector.chunkShift < vector.length; i = i + 1){
+            long elements = Math.min(vector.length - ((long) i << vector.chunkShift), perChunk);
+            out.write(vector.chunks[i].duplicate().clear().limit((int) (elements * vector.elementBytes)));
+        }
+    }
+
+    // Fills the native blocks of vector with n elements straight from the stream. n isn't trusted , so storage is
+    // added as the data arrives: geometrically within the first block, then one block at a time.
+    private static void readChunks(OffHeapVector<?> vector, long n, ChannelInput in) throws IOException {
+        long perChunk = 1L << vector.chunkShift;
+        long step = Math.max(in.bufferBytes() / vector.elementBytes, 1);
+        while(vector.length < n){
+            if(vector.length == vector.capacity){
+                long capacity = vector.capacity;
+                vector.reserve(Math.min(n, capacity < perChunk ? Math.min(Math.max(capacity * 2, step), perChunk)
+                        : capacity + perChunk));
+            }
+            long chunkEnd = ((vector.length >>> vector.chunkShift) + 1) << vector.chunkShift;
+            long end = Math.min(Math.min(n, vector.capacity), chunkEnd);
+            int from = vector.offset(vector.length);
+            int to = from + (int) ((end - vector.length) * vector.elementBytes);
+            in.readFully(vector.chunk(vector.length).duplicate().clear().position(from).limit(to));
+            vector.length = end;
+        }
+    }
+
+    private static void writeHeader(ChannelOutput out, byte tag, long n) throws IOException {
+        out.writeByte(tag);
+        out.writeLong(n);
+    }
+
+    private static long readHeader(ChannelInput in, byte tag) throws IOException {
+        byte found = in.readByte();
+        if(found != tag){
+            throw new StreamCorruptedException("Expected a container of '" + (char) tag + "' elements, found '"
+                    + (char) found + "'");
+        }
+        long n = in.readLong();
+        if(n < 0){
+            throw new StreamCorruptedException("Negative container size " + n);
+        }
+        return n;
+    }
+
+    // What a reader allocates before any element has arrived , no more than a buffer's worth.
+    private static int initialCapacity(int n, ChannelInput in, int elementBytes){
+        return Math.min(n, in.bufferBytes() / elementBytes);
+    }
+
+    private static void reserve(IntVector vector, int needed, int n){
+        if(needed > vector.capacity()){
+            vector.reserve((int) Math.min(n, Math.max(needed, 2L * vector.capacity())));
+        }
+    }
+
+    private static void reserve(LongVector vector, int needed, int n){
+        if(needed > vector.capacity()){
+            vector.reserve((int) Math.min(n, Math.max(needed, 2L * vector.capacity())));
+        }
+    }
+
+    private static void reserve(DoubleVector vector, int needed, int n){
+        if(needed > vector.capacity()){
+            vector.reserve((int) Math.min(n, Math.max(needed, 2L * vector.capacity())));
+        }
+    }
+
+    private static int readIntHeader(ChannelInput in, byte tag) throws IOException {
+        long n = readHeader(in, tag);
+        if(n > Integer.MAX_VALUE - 8){
+            throw new StreamCorruptedException("Container of " + n + " elements doesn't fit an array");
+        }
+        return (int) n;
+    }
+}
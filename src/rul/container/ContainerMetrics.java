@@ -0,0 +1,158 @@
+package rul.container;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Operation counters of the containers, one set per container class , shared by all of its instances.
+ *
+ * Counting is off unless the JVM is started with -Drul.metrics=true. ENABLED is a static final flag so with
+ * counting off the JIT folds every guarded call site away and the containers run exactly as uninstrumented code.
+ * With counting on, every set of counters is registered with the platform MBeanServer, see ContainerMetricsMBean.
+ */
+public final class ContainerMetrics implements ContainerMetricsMBean {
+
+    /** Whether the containers count their operations, read once from the rul.metrics system property. */
+    public static final boolean ENABLED = Boolean.getBoolean("rul.metrics");
+
+    // The estimated size of an element of an Object[] , the JVM's own index scale if it can be read reflectively,
+    // otherwise the 4 bytes of a compressed reference.
+    static final int REFERENCE_BYTES = referenceScale();
+
+    static final ContainerMetrics VECTOR = new ContainerMetrics("Vector");
+    static final ContainerMetrics DOUBLY_LINKED_LIST = new ContainerMetrics("DoublyLinkedList");
+
+    private final String name;
+
+    private final LongAdder reallocations = new LongAdder();
+    private final LongAdder bytesCopied = new LongAdder();
+    private final LongAdder links = new LongAdder();
+    private final LongAdder unlinks = new LongAdder();
+    private final LongAdder iterators = new LongAdder();
+    private final LongAccumulator peakSize = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakCapacity = new LongAccumulator(Math::max, 0);
+
+    private ContainerMetrics(String name){
+        this.name = name;
+        if(ENABLED){
+            try{
+                ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                        new ObjectName("rul.container:type=ContainerMetrics,name=" + name));
+            }catch(JMException e){
+                throw new IllegalStateException("Cannot register the metrics of " + name, e);
+            }
+        }
+    }
+
+    /**
+     * @return The counters of every Vector.
+     */
+    public static ContainerMetrics vector(){
+        return VECTOR;
+    }
+
+    /**
+     * @return The counters of every DoublyLinkedList.
+     */
+    public static ContainerMetrics doublyLinkedList(){
+        return DOUBLY_LINKED_LIST;
+    }
+
+    /**
+     * @return The bytes per element bytesCopied counts for arrays of references , an estimate.
+     */
+    public static int referenceBytes(){
+        return REFERENCE_BYTES;
+    }
+
+    private static int referenceScale(){
+        try{
+            return Class.forName("sun.misc.Unsafe").getField("ARRAY_OBJECT_INDEX_SCALE").getInt(null);
+        }catch(ReflectiveOperationException | RuntimeException e){
+            return 4;
+        }
+    }
+
+    /**
+     * @return The name of the container class counted.
+     */
+    public String name(){
+        return name;
+    }
+
+    // Recording , call sites check ENABLED first.
+
+    void reallocated(long elements, int elementBytes, long capacity){
+        reallocations.increment();
+        bytesCopied.add(elements * elementBytes);
+        peakCapacity.accumulate(capacity);
+    }
+
+    void linked(long size){
+        links.increment();
+        peakSize.accumulate(size);
+    }
+
+    void unlinked(long count){
+        unlinks.add(count);
+    }
+
+    void sized(long size){
+        peakSize.accumulate(size);
+    }
+
+    void iteratorCreated(){
+        iterators.increment();
+    }
+
+    // ContainerMetricsMBean
+
+    @Override
+    public long getReallocations(){
+        return reallocations.sum();
+    }
+
+    @Override
+    public long getBytesCopied(){
+        return bytesCopied.sum();
+    }
+
+    @Override
+    public long getLinks(){
+        return links.sum();
+    }
+
+    @Override
+    public long getUnlinks(){
+        return unlinks.sum();
+    }
+
+    @Override
+    public long getPeakSize(){
+        return peakSize.get();
+    }
+
+    @Override
+    public long getPeakCapacity(){
+        return peakCapacity.get();
+    }
+
+    @Override
+    public long getIteratorAllocations(){
+        return iterators.sum();
+    }
+
+    @Override
+    public void reset(){
+        reallocations.reset();
+        bytesCopied.reset();
+        links.reset();
+        unlinks.reset();
+        iterators.reset();
+        peakSize.reset();
+        peakCapacity.reset();
+    }
+}
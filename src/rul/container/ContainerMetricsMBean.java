@@ -0,0 +1,46 @@
+package rul.container;
+
+/**
+ * The JMX view of ContainerMetrics, registered as rul.container:type=ContainerMetrics,name=[container].
+ */
+public interface ContainerMetricsMBean {
+    /**
+     * @return The number of times the storage was reallocated.
+     */
+    long getReallocations();
+
+    /**
+     * @return The estimated number of bytes of elements copied by reallocations , see ContainerMetrics.referenceBytes.
+     */
+    long getBytesCopied();
+
+    /**
+     * @return The number of nodes linked into a list.
+     */
+    long getLinks();
+
+    /**
+     * @return The number of nodes unlinked from a list.
+     */
+    long getUnlinks();
+
+    /**
+     * @return The largest size any instance reached.
+     */
+    long getPeakSize();
+
+    /**
+     * @return The largest capacity any instance reached.
+     */
+    long getPeakCapacity();
+
+    /**
+     * @return The number of iterators created.
+     */
+    long getIteratorAllocations();
+
+    /**
+     * Sets every counter back to 0.
+     */
+    void reset();
+}
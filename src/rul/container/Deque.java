@@ -0,0 +1,382 @@
+package rul.container;
+
+import rul.iterator.Cursor;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A double ended queue over a circular array.
+ *
+ * Elements are kept contiguously, wrapping around the end of the array, so both ends grow and shrink in amortized
+ * O(1) without allocating per element and any element can be reached in O(1) by its position.
+ * The capacity is always a power of two and positions are turned into array slots with a mask instead of a
+ * division.
+ */
+public class Deque<T> extends Container<T> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] arr;
+    // Slot of the first element.
+    private int head = 0;
+
+    public Deque(){
+        this(16);
+    }
+
+    /**
+     * @param capacity The initial capacity , rounded up to a power of two.
+     * @throws IllegalArgumentException If capacity is negative.
+     */
+    public Deque(int capacity){
+        if(capacity < 0){
+            throw new IllegalArgumentException();
+        }
+        arr = new Object[roundCapacity(capacity)];
+    }
+
+    // Iterators
+
+    /**
+     * @return Iterator pointing to the first element. Equal to end() if the deque is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public RandomAccessIterator<T> begin() {
+        return new DQIterator(0);
+    }
+
+    /**
+     * @return Iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public RandomAccessIterator<T> end() {
+        return new DQIterator(size);
+    }
+
+    /**
+     * @return A reusable cursor pointing to the first element, see Cursor.
+     * @complexity O(1).
+     */
+    public Cursor<T> cursor(){
+        return new DQIterator(0);
+    }
+
+    /**
+     * Performs action on every element from front to back without allocating an iterator.
+     * @param action The action to be performed.
+     * @complexity O(n).
+     */
+    @Override
+    public void forEach(Consumer<? super T> action){
+        Objects.requireNonNull(action);
+        Object[] a = arr;
+        int mask = a.length - 1;
+        for(int i = 0, n = size; i < n; i = i + 1){
+            @SuppressWarnings("unchecked") var obj = (T) a[(head + i) & mask];
+            action.accept(obj);
+        }
+    }
+
+    //Capacity
+
+    public int capacity(){
+        return arr.length;
+    }
+
+    /**
+     * Requests that the deque capacity be at least enough to contain n elements.
+     *
+     * If n is greater than the current capacity, the storage is reallocated to the smallest power of two not
+     * less than n. Otherwise nothing happens.
+     *
+     * This function has no effect on the deque size and cannot alter its elements.
+     * @param n Requested capacity.
+     * @throws OutOfMemoryError If n is larger than the largest power of two an array can hold.
+     * @complexity If a reallocation happens O(n), constant otherwise.
+     */
+    public void reserve(int n){
+        if(n > arr.length){
+            reallocate(roundCapacity(n));
+        }
+    }
+
+    /**
+     * Requests the container to reduce its capacity to the smallest power of two that fits its size.
+     *
+     * @complexity If a reallocation happens O(n), constant otherwise.
+     */
+    public void shrinkToFit(){
+        int capacity = roundCapacity(size);
+        if(arr.length > capacity){
+            reallocate(capacity);
+        }
+    }
+
+    // Moves the elements to the front of a new array , unwrapping them.
+    private void reallocate(int capacity){
+        Object[] newArr = new Object[capacity];
+        int first = Math.min(size, arr.length - head);
+        System.arraycopy(arr, head, newArr, 0, first);
+        System.arraycopy(arr, 0, newArr, first, size - first);
+        arr = newArr;
+        head = 0;
+    }
+
+    // Doubles the capacity so that a sequence of pushes costs amortized O(1) each.
+    private void grow(){
+        if(arr.length == MAX_CAPACITY){
+            throw new OutOfMemoryError("Required deque capacity exceeds the maximum array size");
+        }
+        reallocate(arr.length * 2);
+    }
+
+    private static int roundCapacity(int n){
+        if(n > MAX_CAPACITY){
+            throw new OutOfMemoryError("Required deque capacity exceeds the maximum array size");
+        }
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    //Element Access
+
+    /**
+     * @param index The position of the element, 0 being the front.
+     * @return The element at index.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public T get(int index){
+        checkIndex(index);
+        @SuppressWarnings("unchecked") var obj = (T) arr[(head + index) & (arr.length - 1)];
+        return obj;
+    }
+
+    /**
+     * Replaces the element at index.
+     * @param index The position of the element, 0 being the front.
+     * @param data The new value.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public void set(int index, T data){
+        checkIndex(index);
+        arr[(head + index) & (arr.length - 1)] = data;
+    }
+
+    /**
+     * @return The first element.
+     * @throws NoSuchElementException If the deque is empty.
+     * @complexity O(1).
+     */
+    public T getFront(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        @SuppressWarnings("unchecked") var obj = (T) arr[head];
+        return obj;
+    }
+
+    /**
+     * @return The last element.
+     * @throws NoSuchElementException If the deque is empty.
+     * @complexity O(1).
+     */
+    public T getBack(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        @SuppressWarnings("unchecked") var obj = (T) arr[(head + size - 1) & (arr.length - 1)];
+        return obj;
+    }
+
+    //Modifiers
+
+    /**
+     * Inserts data at the front of the deque.
+     * @param data The new element.
+     * @iterators Iterators keep their positions, so each now points to the element before the one it did.
+     * @complexity Amortized O(1).
+     */
+    public void pushFront(T data){
+        if(size == arr.length){
+            grow();
+        }
+        head = (head - 1) & (arr.length - 1);
+        arr[head] = data;
+        size = size + 1;
+    }
+
+    /**
+     * Appends data at the back of the deque.
+     * @param data The new element.
+     * @complexity Amortized O(1).
+     */
+    public void pushBack(T data){
+        if(size == arr.length){
+            grow();
+        }
+        arr[(head + size) & (arr.length - 1)] = data;
+        size = size + 1;
+    }
+
+    /**
+     * Removes the first element.
+     * @throws NoSuchElementException If the deque is empty.
+     * @iterators Iterators keep their positions, so each now points to the element after the one it did.
+     * @complexity O(1).
+     */
+    public void popFront(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        arr[head] = null;
+        head = (head + 1) & (arr.length - 1);
+        size = size - 1;
+    }
+
+    /**
+     * Removes the last element.
+     * @throws NoSuchElementException If the deque is empty.
+     * @complexity O(1).
+     */
+    public void popBack(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        size = size - 1;
+        arr[(head + size) & (arr.length - 1)] = null;
+    }
+
+    /**
+     * Removes all elements, leaving the capacity untouched.
+     * @iterators All iterators are invalidated.
+     * @complexity O(n).
+     */
+    public void clear(){
+        if(head + size <= arr.length){
+            Arrays.fill(arr, head, head + size, null);
+        }else{
+            Arrays.fill(arr, head, arr.length, null);
+            Arrays.fill(arr, 0, (head + size) & (arr.length - 1), null);
+        }
+        head = 0;
+        size = 0;
+    }
+
+    private void checkIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    // Holds a position rather than a slot , so it stays meaningful across reallocations.
+    private class DQIterator implements RandomAccessIterator<T>, Cursor<T> {
+
+        private int index;
+
+        private DQIterator(int index){
+            this.index = index;
+        }
+
+        @Override
+        public T previous() {
+            return dec().get();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public Cursor<T> toFront() {
+            index = 0;
+            return this;
+        }
+
+        @Override
+        public Cursor<T> toBack() {
+            index = size - 1;
+            return this;
+        }
+
+        @Override
+        public boolean isValid() {
+            return index >= 0 && index < size;
+        }
+
+        @Override
+        public RandomAccessIterator<T> dec() {
+            --index;
+            return this;
+        }
+
+        @Override
+        public T get() {
+            @SuppressWarnings("unchecked") var obj = (T) arr[(head + index) & (arr.length - 1)];
+            return obj;
+        }
+
+        @Override
+        public void set(T t) {
+            arr[(head + index) & (arr.length - 1)] = t;
+        }
+
+        @Override
+        public RandomAccessIterator<T> inc() {
+            ++index;
+            return this;
+        }
+
+        @Override
+        public RandomAccessIterator<T> clone() {
+            return new DQIterator(index);
+        }
+
+        @Override
+        public void advance(long n) {
+            index = Math.toIntExact(index + n);
+        }
+
+        @Override
+        public RandomAccessIterator<T> add(long n) {
+            return new DQIterator(Math.toIntExact(index + n));
+        }
+
+        @Override
+        public long distance(RandomAccessIterator<T> last) {
+            return ((DQIterator) last).index - index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public T next() {
+            T t = get();
+            index = index + 1;
+            return t;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }else{
+                @SuppressWarnings("unchecked") DQIterator it = (DQIterator) obj;
+                return index == it.index && owner() == it.owner();
+            }
+        }
+
+        private Deque<T> owner(){
+            return Deque.this;
+        }
+    }
+}
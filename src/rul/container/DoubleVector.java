@@ -0,0 +1,279 @@
+package rul.container;
+
+import rul.iterator.DoubleRandomAccessIterator;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A Vector specialized for double elements.
+ *
+ * Elements are kept in a double[] so neither the container nor its DoubleRandomAccessIterator ever box.
+ */
+public class DoubleVector extends Container<Double> {
+    private double[] arr;
+
+    public DoubleVector(){
+        this(1);
+    }
+
+    public DoubleVector(int capacity){
+        arr = new double[capacity];
+    }
+
+    // Iterators
+
+    /**
+     * @return Iterator pointing to the first element. Equal to end() if the vector is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public DoubleRandomAccessIterator begin() {
+        return new DVIterator(0);
+    }
+
+    /**
+     * @return Iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public DoubleRandomAccessIterator end() {
+        return new DVIterator(size);
+    }
+
+    //Capacity
+
+    public int capacity(){
+        return arr.length;
+    }
+
+    /**
+     * Requests that the vector capacity be at least enough to contain n elements.
+     *
+     * If n is greater than the current vector capacity, the function causes the container to reallocate its
+     * storage increasing its capacity to n.
+     *
+     * In all other cases, the function call does not cause a reallocation and the vector capacity is not affected.
+     * @param n Requested capacity.
+     * @complexity If a reallocation happens O(n), constant otherwise.
+     */
+    public void reserve(int n){
+        if(n > arr.length){
+            reallocate(n);
+        }
+    }
+
+    /**
+     * Requests the container to reduce its capacity to fit its size.
+     *
+     * @complexity If a reallocation happens O(n), constant otherwise.
+     */
+    public void shrinkToFit(){
+        if(arr.length > size){
+            reallocate(size);
+        }
+    }
+
+    private void reallocate(int capacity){
+        arr = Arrays.copyOf(arr, capacity);
+    }
+
+    private void grow(){
+        reallocate(arr.length == 0 ? 1 : arr.length * 2);
+    }
+
+    //Element Access
+
+    /**
+     * @param index The position of the element.
+     * @return The element at index.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public double get(int index){
+        checkIndex(index);
+        return arr[index];
+    }
+
+    /**
+     * Replaces the element at index.
+     * @param index The position of the element.
+     * @param data The new value.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public void set(int index, double data){
+        checkIndex(index);
+        arr[index] = data;
+    }
+
+    //Modifiers
+
+    /**
+     * Inserts data before the element at index, shifting everything after it one position to the right.
+     * @param index The position of the new element, size() appends.
+     * @param data The new element.
+     * @throws IndexOutOfBoundsException If index is outside [0,size].
+     * @complexity O(n), amortized O(1) at the back.
+     */
+    public void insert(int index, double data){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException(index);
+        }
+        if(size == arr.length){
+            grow();
+        }
+        System.arraycopy(arr, index, arr, index + 1, size - index);
+        arr[index] = data;
+        size = size + 1;
+    }
+
+    /**
+     * Appends data at the back of the vector.
+     * @param data The new element.
+     * @complexity Amortized O(1).
+     */
+    public void pushBack(double data){
+        if(size == arr.length){
+            grow();
+        }
+        arr[size++] = data;
+    }
+
+    /**
+     * Removes the last element.
+     * @throws NoSuchElementException If the vector is empty.
+     * @complexity O(1).
+     */
+    public void popBack(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        size = size - 1;
+    }
+
+    /**
+     * Removes all elements, leaving the capacity untouched.
+     * @complexity O(1).
+     */
+    public void clear(){
+        size = 0;
+    }
+
+    // The storage , for ContainerCodec to copy in and out of in bulk.
+    double[] array(){
+        return arr;
+    }
+
+    private void checkIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private class DVIterator implements DoubleRandomAccessIterator {
+
+        private int index;
+
+        private DVIterator(int index){
+            this.index = index;
+        }
+
+        @Override
+        public double getDouble() {
+            return arr[index];
+        }
+
+        @Override
+        public void setDouble(double t) {
+            arr[index] = t;
+        }
+
+        @Override
+        public double nextDouble() {
+            return arr[index++];
+        }
+
+        @Override
+        public double previousDouble() {
+            return arr[--index];
+        }
+
+        @Override
+        public Double get() {
+            return getDouble();
+        }
+
+        @Override
+        public void set(Double t) {
+            setDouble(t);
+        }
+
+        @Override
+        public Double next() {
+            return nextDouble();
+        }
+
+        @Override
+        public Double previous() {
+            return previousDouble();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public DoubleRandomAccessIterator inc() {
+            ++index;
+            return this;
+        }
+
+        @Override
+        public DoubleRandomAccessIterator dec() {
+            --index;
+            return this;
+        }
+
+        @Override
+        public void advance(long n) {
+            index = Math.toIntExact(index + n);
+        }
+
+        @Override
+        public DoubleRandomAccessIterator add(long n) {
+            return new DVIterator(Math.toIntExact(index + n));
+        }
+
+        @Override
+        public long distance(RandomAccessIterator<Double> last) {
+            return ((DVIterator) last).index - index;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }else{
+                DVIterator it = (DVIterator) obj;
+                return index == it.index && owner() == it.owner();
+            }
+        }
+
+        private DoubleVector owner(){
+            return DoubleVector.this;
+        }
+
+        @Override
+        public DoubleRandomAccessIterator clone() {
+            return new DVIterator(index);
+        }
+    }
+}
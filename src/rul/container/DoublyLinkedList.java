@@ -2,10 +2,18 @@ package rul.container;
 
 import org.jetbrains.annotations.NotNull;
 import rul.iterator.BidirectionalIterator;
+import rul.iterator.Cursor;
 import rul.iterator.ForwardIterator;
+import rul.iterator.PositionalIterator;
 import rul.iterator.ReverseBidirectionalIterator;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
 @SuppressWarnings("unused")
 
@@ -14,6 +22,49 @@ public class DoublyLinkedList<T> extends Container<T> {
     private Node<T> head;
     private Node<T> tail;
 
+    // Erased nodes kept for reuse, chained through next.
+    private Node<T> pool;
+    private int pooled = 0;
+    private final int poolCapacity;
+
+    // Set by splices of unknown length, size is recounted by the next size() call.
+    private boolean sizeDeferred = false;
+
+    public DoublyLinkedList(){
+        this(0);
+    }
+
+    /**
+     * Creates a list that recycles its nodes.
+     *
+     * Up to poolCapacity erased nodes are kept in a per list free-list and handed out again by the following
+     * insertions, so queue style pushBack/popFront churn stops allocating once the pool is warm.
+     *
+     * Note that an iterator to an erased element may end up pointing to a newly inserted one , since its node can
+     * be reused. Iterators to erased elements must not be used in any mode, with recycling this just stops being
+     * harmless.
+     * @param poolCapacity Maximum number of erased nodes kept for reuse, 0 disables recycling.
+     * @throws IllegalArgumentException If poolCapacity is negative.
+     */
+    public DoublyLinkedList(int poolCapacity){
+        if(poolCapacity < 0){
+            throw new IllegalArgumentException();
+        }
+        this.poolCapacity = poolCapacity;
+    }
+
+    /**
+     * Creates a list holding the elements of c, in the order of c's iterator.
+     * @param c The elements.
+     * @complexity O(n), where n is the size of c.
+     */
+    public DoublyLinkedList(Collection<? extends T> c){
+        this(0);
+        for(T t : c){
+            pushBack(t);
+        }
+    }
+
     // Iterators
 
     /**
@@ -46,6 +97,76 @@ public class DoublyLinkedList<T> extends Container<T> {
         return new ReverseBidirectionalIterator<>(new DLLIterator(tail));
     }
 
+    /**
+     * @return A reusable cursor pointing to the first element, see Cursor.
+     * @complexity O(1).
+     */
+    public Cursor<T> cursor(){
+        return new DLLIterator(head);
+    }
+
+    /**
+     * Performs action on every element from front to back without allocating an iterator.
+     * @param action The action to be performed.
+     * @complexity O(n).
+     */
+    @Override
+    public void forEach(Consumer<? super T> action){
+        Objects.requireNonNull(action);
+        for(Node<T> node = head; node != null; node = node.next){
+            action.accept(node.data);
+        }
+    }
+
+    /**
+     * Performs action on every element from back to front without allocating an iterator.
+     * @param action The action to be performed.
+     * @complexity O(n).
+     */
+    public void forEachReverse(Consumer<? super T> action){
+        Objects.requireNonNull(action);
+        for(Node<T> node = tail; node != null; node = node.prev){
+            action.accept(node.data);
+        }
+    }
+
+    /**
+     * @return A spliterator that hands out batches of growing size, reporting the exact size of the list.
+     * @complexity O(1), O(n) in deferred counting mode.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new DLLSpliterator<>(head, size());
+    }
+
+    // Capacity
+
+    /**
+     * @return The number of elements.
+     * @complexity O(1), O(n) once after a splice of unknown length.
+     */
+    @Override
+    public int size(){
+        if(sizeDeferred){
+            int count = 0;
+            for(Node<T> node = head; node != null; node = node.next){
+                count = count + 1;
+            }
+            size = count;
+            sizeDeferred = false;
+        }
+        return size;
+    }
+
+    /**
+     * @return Whether the list is empty or not.
+     * @complexity O(1).
+     */
+    @Override
+    public boolean isEmpty(){
+        return head == null;
+    }
+
 
     // Element Access
 
@@ -124,13 +245,13 @@ public class DoublyLinkedList<T> extends Container<T> {
      * @param position The specified iterator.
      * @param t The new element.
      * @return An iterator pointing to the new element.
-     * @throws IllegalArgumentException If the supplied iterator isn't a DLLIterator.
+     * @throws IllegalArgumentException If the supplied iterator doesn't point into a DoublyLinkedList.
      * @complexity O(1).
      */
     public BidirectionalIterator<T> insertAfter(final BidirectionalIterator<T> position, T t){
         Node<T> node = toNode(position);
 
-        link(new Node<>(t,node,node.next));
+        link(obtain(t,node,node.next));
         return new DLLIterator(node.next);
     }
 
@@ -156,13 +277,13 @@ public class DoublyLinkedList<T> extends Container<T> {
      * @param position The specified iterator.
      * @param t The new element.
      * @return An iterator pointing to the new element.
-     * @throws IllegalArgumentException If the supplied iterator isn't a DLLIterator.
+     * @throws IllegalArgumentException If the supplied iterator doesn't point into a DoublyLinkedList.
      * @complexity O(1).
      */
     public BidirectionalIterator<T> insertBefore(final BidirectionalIterator<T> position, T t){
         Node<T> node = toNode(position);
 
-        link(new Node<>(t,node.prev,node));
+        link(obtain(t,node.prev,node));
         return new DLLIterator(node.prev);
     }
 
@@ -189,14 +310,14 @@ public class DoublyLinkedList<T> extends Container<T> {
      * @return An iterator pointing to the element after the one specified by position.
      * If position was the tail, then an invalidated iterator is returned.
      * @iterators All but position remain valid.
-     * @throws IllegalArgumentException if position isn't a DLLIterator.
+     * @throws IllegalArgumentException if position doesn't point into a DoublyLinkedList.
      * @complexity O(1).
      */
     public BidirectionalIterator<T> erase(BidirectionalIterator<T> position){
         Node<T> node = toNode(position);
 
         DLLIterator ret = new DLLIterator(node.next);
-        unlink(node);
+        release(node);
         return ret;
     }
 
@@ -226,6 +347,7 @@ public class DoublyLinkedList<T> extends Container<T> {
     public void clear(){
         head = tail = null;
         size = 0;
+        sizeDeferred = false;
     }
 
     /**
@@ -246,6 +368,10 @@ public class DoublyLinkedList<T> extends Container<T> {
         var temp1 = size;
         size = list.size;
         list.size = temp1;
+
+        var temp2 = sizeDeferred;
+        sizeDeferred = list.sizeDeferred;
+        list.sizeDeferred = temp2;
     }
 
 
@@ -256,7 +382,7 @@ public class DoublyLinkedList<T> extends Container<T> {
      * @param obj The obj to be inserted.
      */
     public void pushFront(T obj){
-        link(new Node<>(obj,null,head));
+        link(obtain(obj,null,head));
     }
 
     /**
@@ -266,13 +392,99 @@ public class DoublyLinkedList<T> extends Container<T> {
      * @throws NoSuchElementException if the list is empty.
      */
     public void popFront(){
-        if(size > 0){
-            unlink(head);
+        if(head != null){
+            release(head);
         }else{
             throw new NoSuchElementException();
         }
     }
 
+    /**
+     * Removes up to n elements from the front, handing each one to action in order.
+     *
+     * The nodes are walked once and the list bookkeeping is updated once for the whole batch, so taking a batch
+     * costs less than n calls to getFront and popFront , and holds an external lock for less.
+     * If action throws, the elements up to and including the one it threw for are removed.
+     * @param n The maximum number of elements to remove.
+     * @param action What to do with every removed element.
+     * @return The number of elements removed.
+     * @throws IllegalArgumentException If n is negative.
+     * @complexity O(k), where k is the number of elements removed.
+     * @iterators Iterators to the removed elements are invalidated, all else remain valid.
+     */
+    public int popFront(int n, Consumer<? super T> action){
+        if(n < 0){
+            throw new IllegalArgumentException();
+        }
+        Objects.requireNonNull(action);
+
+        int count = 0;
+        Node<T> node = head;
+        try{
+            while(count < n && node != null){
+                Node<T> next = node.next;
+                T data = node.data;
+                recycle(node);
+                node = next;
+                count = count + 1;
+                action.accept(data);
+            }
+        }finally{
+            head = node;
+            if(node != null){
+                node.prev = null;
+            }else{
+                tail = null;
+            }
+            size = size - count;
+            if(ContainerMetrics.ENABLED){
+                ContainerMetrics.DOUBLY_LINKED_LIST.unlinked(count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes up to n elements from the front of the list, moving them to a new list.
+     *
+     * The first n nodes are cut off as they are, nothing is copied or allocated but the new list itself.
+     * @param n The maximum number of elements to detach.
+     * @return A list holding the detached elements in order , with the same pool capacity as this one.
+     * @throws IllegalArgumentException If n is negative.
+     * @complexity O(k), where k is the number of elements detached.
+     * @iterators All iterators remain valid , iterators to the detached elements now point to the new list.
+     */
+    public DoublyLinkedList<T> detachPrefix(int n){
+        if(n < 0){
+            throw new IllegalArgumentException();
+        }
+        DoublyLinkedList<T> prefix = new DoublyLinkedList<>(poolCapacity);
+        if(n == 0 || head == null){
+            return prefix;
+        }
+
+        Node<T> last = head;
+        int count = 1;
+        while(count < n && last.next != null){
+            last = last.next;
+            count = count + 1;
+        }
+
+        prefix.head = head;
+        prefix.tail = last;
+        prefix.size = count;
+
+        head = last.next;
+        last.next = null;
+        if(head != null){
+            head.prev = null;
+        }else{
+            tail = null;
+        }
+        size = size - count;
+        return prefix;
+    }
+
     /**
      * Insert element on the back of the list.
      * @complexity O(1).
@@ -280,7 +492,7 @@ public class DoublyLinkedList<T> extends Container<T> {
      * @param obj The obj to be inserted.
      */
     public void pushBack(T obj){
-        link(new Node<>(obj,tail,null));
+        link(obtain(obj,tail,null));
     }
 
     /**
@@ -290,68 +502,315 @@ public class DoublyLinkedList<T> extends Container<T> {
      * @throws NoSuchElementException if the list is empty.
      */
     public void popBack(){
-        if(size > 0){
-            unlink(tail);
+        if(tail != null){
+            release(tail);
         }else{
             throw new NoSuchElementException();
         }
     }
 
 
+    /**
+     * Removes up to n elements from the back.
+     * @param n The maximum number of elements to remove.
+     * @return The number of elements removed.
+     * @throws IllegalArgumentException If n is negative.
+     * @complexity O(k), where k is the number of elements removed.
+     * @iterators Iterators to the removed elements are invalidated, all else remain valid.
+     */
+    public int popBack(int n){
+        if(n < 0){
+            throw new IllegalArgumentException();
+        }
+
+        int count = 0;
+        Node<T> node = tail;
+        while(count < n && node != null){
+            Node<T> prev = node.prev;
+            recycle(node);
+            node = prev;
+            count = count + 1;
+        }
+
+        tail = node;
+        if(node != null){
+            node.next = null;
+        }else{
+            head = null;
+        }
+        size = size - count;
+        if(ContainerMetrics.ENABLED){
+            ContainerMetrics.DOUBLY_LINKED_LIST.unlinked(count);
+        }
+        return count;
+    }
+
+    /**
+     * Removes up to maxElements elements from the front of the list and adds them to c, in order.
+     *
+     * Like BlockingQueue.drainTo, this hands a batch over to a java.util collection without an intermediate copy.
+     * @param c The collection the elements are added to.
+     * @param maxElements The maximum number of elements to move.
+     * @return The number of elements moved.
+     * @throws IllegalArgumentException If maxElements is negative.
+     * @complexity O(k), where k is the number of elements moved.
+     * @iterators Iterators to the moved elements are invalidated, all else remain valid.
+     */
+    public int drainTo(Collection<? super T> c, int maxElements){
+        if(maxElements < 0){
+            throw new IllegalArgumentException();
+        }
+        int count = 0;
+        while(count < maxElements && head != null){
+            c.add(head.data);
+            release(head);
+            count = count + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Moves every element to the back of vector, leaving the list empty.
+     *
+     * The vector is grown once for the whole list before anything is copied.
+     * @param vector The vector the elements are appended to.
+     * @return The number of elements moved.
+     * @complexity O(n).
+     * @iterators All iterators are invalidated.
+     */
+    public int drainTo(Vector<? super T> vector){
+        int count = size();
+        vector.reserve(vector.size() + count);
+        for(Node<T> node = head; node != null; ){
+            Node<T> next = node.next;
+            vector.pushBack(node.data);
+            recycle(node);
+            node = next;
+        }
+        head = tail = null;
+        size = 0;
+        if(ContainerMetrics.ENABLED){
+            ContainerMetrics.DOUBLY_LINKED_LIST.unlinked(count);
+        }
+        return count;
+    }
+
     // Operations
 
+    /**
+     * Moves every element of list after position, leaving list empty. No element is copied.
+     *
+     * If position is end() the elements go to the front, which is the only way to splice into an empty list.
+     * If list is in deferred counting mode this list enters it too, see the four argument splice.
+     * @param position The position to add the elements after.
+     * @param list The list the elements are taken from, splicing a list into itself does nothing.
+     * @complexity O(1).
+     * @iterators All iterators remain valid , iterators of list now point to this list's elements.
+     */
     public void splice(BidirectionalIterator<T> position, DoublyLinkedList<T> list){
-        size += list.size;
-
-        Node<T> node = toNode(position);
-        Node<T> temp = node.next;
+        Node<T> pos = toNode(position);
+        if(list == this || list.head == null){
+            return;
+        }
 
-        node.next = list.head;
-        list.tail.next = temp;
-        temp.prev = list.tail;
+        if(list.sizeDeferred){
+            sizeDeferred = true;
+        }
+        size = size + list.size;
+        attach(pos, list.head, list.tail);
 
-        list.clear();
+        list.head = list.tail = null;
+        list.size = 0;
+        list.sizeDeferred = false;
     }
 
+    /**
+     * Moves the element pointed by i from list to after position. The node itself is moved, not copied.
+     *
+     * If position is end() the element goes to the front.
+     * @param position The position to add the element after.
+     * @param list The list the element is taken from, may be this list.
+     * @param i The element to be moved.
+     * @complexity O(1).
+     * @iterators All iterators remain valid , i now points to this list's element.
+     */
     public void splice(BidirectionalIterator<T> position, DoublyLinkedList<T> list, BidirectionalIterator<T> i){
-        Node<T> node = toNode(i);
         Node<T> pos = toNode(position);
+        Node<T> node = toNode(i);
+        if(node == pos || (list == this && node.prev == pos)){
+            return;
+        }
 
         list.unlink(node);
-
         node.prev = pos;
-        node.next = pos.next;
-
+        node.next = pos == null ? head : pos.next;
         link(node);
     }
 
     /**
-     * **WARNING**
-     * This method has extremely dangerous functionality.
+     * Moves the range [first,last) of list to after position by relinking its ends, no element is copied.
      *
-     * It in fact joins the "sublist" specified by [first,last] with this list by putting said range after position.
-     * Problem though is that we don't really know the distance between [first,last] and thus in order to calculate
-     * the new size for both "this" and "list" we have to go ahead and iterate from first to last adding a linear
-     * complexity to an initially constant complexity. The fact that someone might not care about the list's size
-     * brought me to the decision to actually add another parameter , namely size , that specifies the distance
-     * between [first,last]. You are now given the choice to either count the distance yourself and add it to the
-     * parameter , or plainly supply a random integer and break this container's size functionality.
+     * Keeping both sizes exact in constant time requires the length of the range, which the caller passes as size.
+     * A wrong size corrupts size() of both lists, when it isn't known use the four argument splice instead.
      *
+     * If position is end() the range goes to the front. Within the same list position must not be part of the
+     * range.
      * @param position The position to add the range after.
-     * @param list The list from where this range is taken.
+     * @param list The list from where this range is taken, may be this list.
      * @param first The first interval.
      * @param last The second interval.
-     * @param size The distance between [first,last].
+     * @param size The distance between [first,last).
      * @complexity O(1).
      * @iterators All iterators that are moved remain valid , but are now pointing to this list's elements.
      */
     public void splice(BidirectionalIterator<T> position, DoublyLinkedList<T> list, BidirectionalIterator<T> first,
                        BidirectionalIterator<T> last, long size){
+        if(spliceRange(position, list, first, last) && list != this){
+            this.size = Math.toIntExact(this.size + size);
+            list.size = Math.toIntExact(list.size - size);
+        }
+    }
+
+    /**
+     * Moves the range [first,last) of list to after position by relinking its ends, no element is copied.
+     *
+     * The length of the range is not known, so instead of counting it both lists enter deferred counting mode:
+     * the next size() call counts the list in O(n) and leaves the mode, everything else keeps working in constant
+     * time. Workers moving batches around without looking at the sizes in between never pay for counting.
+     *
+     * If position is end() the range goes to the front. Within the same list position must not be part of the
+     * range.
+     * @param position The position to add the range after.
+     * @param list The list from where this range is taken, may be this list.
+     * @param first The first interval.
+     * @param last The second interval.
+     * @complexity O(1).
+     * @iterators All iterators that are moved remain valid , but are now pointing to this list's elements.
+     */
+    public void splice(BidirectionalIterator<T> position, DoublyLinkedList<T> list, BidirectionalIterator<T> first,
+                       BidirectionalIterator<T> last){
+        if(spliceRange(position, list, first, last) && list != this){
+            sizeDeferred = list.sizeDeferred = true;
+        }
+    }
+
+    // Relinks [first,last) of list after position , returns whether anything moved.
+    private boolean spliceRange(BidirectionalIterator<T> position, DoublyLinkedList<T> list,
+                                BidirectionalIterator<T> first, BidirectionalIterator<T> last){
         Node<T> pos = toNode(position);
         Node<T> begin = toNode(first);
         Node<T> end = toNode(last);
+        if(begin == end){
+            return false;
+        }
+        Node<T> rangeTail = end == null ? list.tail : end.prev;
+        if(list == this && (pos == rangeTail || pos == begin.prev)){
+            return false;
+        }
+
+        // Detach [begin,rangeTail] from list.
+        if(begin.prev != null){
+            begin.prev.next = end;
+        }else{
+            list.head = end;
+        }
+        if(end != null){
+            end.prev = begin.prev;
+        }else{
+            list.tail = begin.prev;
+        }
 
-        //TODO
+        attach(pos, begin, rangeTail);
+        return true;
+    }
+
+    // Links the chain [first,last] after pos , or at the front if pos is null.
+    private void attach(Node<T> pos, @NotNull Node<T> first, @NotNull Node<T> last){
+        Node<T> after = pos == null ? head : pos.next;
+
+        first.prev = pos;
+        if(pos != null){
+            pos.next = first;
+        }else{
+            head = first;
+        }
+
+        last.next = after;
+        if(after != null){
+            after.prev = last;
+        }else{
+            tail = last;
+        }
+    }
+
+
+    /**
+     * Sorts the list by relinking its nodes , equal elements keep their order.
+     *
+     * This is a bottom-up merge sort, so no data is copied and no extra memory is used.
+     * @param c The comparator deciding the order.
+     * @complexity O(n log n).
+     * @iterators All iterators remain valid, pointing to the same elements.
+     */
+    public void sort(Comparator<? super T> c){
+        Objects.requireNonNull(c);
+        if(head == tail){
+            return;
+        }
+
+        Node<T> list = head;
+        for(int width = 1; ; width = width * 2){
+            Node<T> p = list;
+            Node<T> last = null;
+            int merges = 0;
+            list = null;
+
+            while(p != null){
+                merges = merges + 1;
+
+                // Runs p and q of up to width nodes each.
+                Node<T> q = p;
+                int pSize = 0;
+                while(pSize < width && q != null){
+                    pSize = pSize + 1;
+                    q = q.next;
+                }
+                int qSize = width;
+
+                while(pSize > 0 || (qSize > 0 && q != null)){
+                    Node<T> e;
+                    if(pSize == 0){
+                        e = q;
+                        q = q.next;
+                        qSize = qSize - 1;
+                    }else if(qSize == 0 || q == null || c.compare(q.data, p.data) >= 0){
+                        e = p;
+                        p = p.next;
+                        pSize = pSize - 1;
+                    }else{
+                        e = q;
+                        q = q.next;
+                        qSize = qSize - 1;
+                    }
+
+                    if(last != null){
+                        last.next = e;
+                    }else{
+                        list = e;
+                    }
+                    e.prev = last;
+                    last = e;
+                }
+                p = q;
+            }
+            last.next = null;
+
+            if(merges <= 1){
+                head = list;
+                tail = last;
+                return;
+            }
+        }
     }
 
 
@@ -369,6 +828,9 @@ public class DoublyLinkedList<T> extends Container<T> {
         }
 
         size = size + 1;
+        if(ContainerMetrics.ENABLED){
+            ContainerMetrics.DOUBLY_LINKED_LIST.linked(size);
+        }
     }
 
     private void unlink(@NotNull Node<T> node){
@@ -385,26 +847,67 @@ public class DoublyLinkedList<T> extends Container<T> {
         }
         node.prev = node.next = null;
         size = size - 1;
+        if(ContainerMetrics.ENABLED){
+            ContainerMetrics.DOUBLY_LINKED_LIST.unlinked(1);
+        }
     }
 
-    private Node<T> toNode(BidirectionalIterator<T> iterator) {
-        Node<T> node;
-        if(iterator.getClass() == DLLIterator.class){
-            node = ((DLLIterator) iterator).node;
-        }else if(iterator.getClass() == ReverseBidirectionalIterator.class){
-            node = ((ReverseBidirectionalIterator<T, DLLIterator>) iterator).getIt().node;
-        }else{
-            throw new IllegalArgumentException();
+    private Node<T> obtain(T data, Node<T> prev, Node<T> next){
+        Node<T> node = pool;
+        if(node == null){
+            return new Node<>(data,prev,next);
         }
+        pool = node.next;
+        pooled = pooled - 1;
+
+        node.data = data;
+        node.prev = prev;
+        node.next = next;
         return node;
     }
 
-    private class DLLIterator implements BidirectionalIterator<T>{
+    // Unlinks node and hands it to the pool if there's room left.
+    private void release(@NotNull Node<T> node){
+        unlink(node);
+        recycle(node);
+    }
+
+    // Hands an already detached node to the pool if there's room left.
+    private void recycle(@NotNull Node<T> node){
+        if(pooled < poolCapacity){
+            node.data = null;
+            node.prev = null;
+            node.next = pool;
+            pool = node;
+            pooled = pooled + 1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T> toNode(BidirectionalIterator<T> iterator) {
+        if(iterator instanceof PositionalIterator){
+            Object position = ((PositionalIterator<T>) iterator).position();
+            if(position == null || position.getClass() == Node.class){
+                return (Node<T>) position;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private class DLLIterator implements Cursor<T>, PositionalIterator<T> {
 
         private Node<T> node;
 
         private DLLIterator(Node<T> node){
             this.node = node;
+            if(ContainerMetrics.ENABLED){
+                ContainerMetrics.DOUBLY_LINKED_LIST.iteratorCreated();
+            }
+        }
+
+        @Override
+        public Object position() {
+            return node;
         }
 
         @Override
@@ -422,6 +925,23 @@ public class DoublyLinkedList<T> extends Container<T> {
             return node.prev != null;
         }
 
+        @Override
+        public Cursor<T> toFront(){
+            node = head;
+            return this;
+        }
+
+        @Override
+        public Cursor<T> toBack(){
+            node = tail;
+            return this;
+        }
+
+        @Override
+        public boolean isValid(){
+            return node != null;
+        }
+
         @Override
         public BidirectionalIterator<T> dec(){
             if(node != null){
@@ -483,6 +1003,80 @@ public class DoublyLinkedList<T> extends Container<T> {
         }
     }
 
+    /**
+     * Splits by copying batches off the front of the list into arrays, the same way java.util.LinkedList does.
+     * Batches grow by BATCH_UNIT on every split so that both small and huge lists split into a sensible number of
+     * tasks.
+     */
+    private static class DLLSpliterator<T> implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<T> current;
+        private int remaining;
+        private int batch = 0;
+
+        private DLLSpliterator(Node<T> current, int remaining){
+            this.current = current;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if(remaining > 0 && current != null){
+                T data = current.data;
+                current = current.next;
+                remaining = remaining - 1;
+                action.accept(data);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            Node<T> node = current;
+            for(int n = remaining; n > 0 && node != null; n = n - 1){
+                action.accept(node.data);
+                node = node.next;
+            }
+            current = null;
+            remaining = 0;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if(remaining <= 1 || current == null){
+                return null;
+            }
+
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            Object[] a = new Object[n];
+            int j = 0;
+            Node<T> node = current;
+            while(j < n && node != null){
+                a[j++] = node.data;
+                node = node.next;
+            }
+            current = node;
+            remaining = remaining - j;
+            batch = j;
+            return Spliterators.spliterator(a, 0, j, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     private static class Node<T>{
         private T data;
         private Node<T> prev;
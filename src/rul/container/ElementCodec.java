@@ -0,0 +1,51 @@
+package rul.container;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads the elements of a container for ContainerCodec.
+ *
+ * An element is written by write and must be read back by read from the very same bytes , the codec decides the
+ * layout and whether it's fixed or variable width. The constants cover boxed primitives and strings, none of them
+ * accepts null.
+ */
+public interface ElementCodec<T> {
+
+    ElementCodec<Integer> INT = of(ChannelOutput::writeInt, ChannelInput::readInt);
+    ElementCodec<Long> LONG = of(ChannelOutput::writeLong, ChannelInput::readLong);
+    ElementCodec<Double> DOUBLE = of(ChannelOutput::writeDouble, ChannelInput::readDouble);
+    ElementCodec<String> STRING = of(ChannelOutput::writeString, ChannelInput::readString);
+
+    void write(T value, ChannelOutput out) throws IOException;
+
+    T read(ChannelInput in) throws IOException;
+
+    /**
+     * @param writer Writes an element.
+     * @param reader Reads an element back.
+     * @return A codec out of the two functions.
+     */
+    static <T> ElementCodec<T> of(Writer<T> writer, Reader<T> reader){
+        return new ElementCodec<>() {
+            @Override
+            public void write(T value, ChannelOutput out) throws IOException {
+                writer.write(out, value);
+            }
+
+            @Override
+            public T read(ChannelInput in) throws IOException {
+                return reader.read(in);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface Writer<T> {
+        void write(ChannelOutput out, T value) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(ChannelInput in) throws IOException;
+    }
+}
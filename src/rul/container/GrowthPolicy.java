@@ -0,0 +1,102 @@
+package rul.container;
+
+/**
+ * Decides how much capacity a Vector asks for when it's full , and whether it gives capacity back when it empties.
+ *
+ * grow is called only when the storage is too small , shrink after every removal. Both return the capacity the vector
+ * should have, which it clamps to [minimum,maximum array size].
+ *
+ * The factories cover the usual strategies: geometric growth, a fixed increment, and geometric growth capped at a
+ * fixed increment for huge arrays. None of them shrinks on its own , see shrinking(double).
+ */
+public interface GrowthPolicy {
+
+    /** Doubles the capacity, the policy of a Vector built without one. */
+    GrowthPolicy DOUBLING = geometric(2);
+
+    /**
+     * @param capacity The current capacity.
+     * @param minCapacity The capacity needed , greater than capacity.
+     * @return The new capacity. Values below minCapacity are raised to it.
+     */
+    long grow(int capacity, int minCapacity);
+
+    /**
+     * @param capacity The current capacity.
+     * @param size The number of elements left.
+     * @return The new capacity, capacity itself to keep the storage. Values below size are raised to it.
+     */
+    default long shrink(int capacity, int size){
+        return capacity;
+    }
+
+    /**
+     * Wraps this policy so that the vector gives memory back once it's mostly empty.
+     *
+     * When fewer than capacity * threshold elements are left the capacity drops to size / (2 * threshold), leaving
+     * the vector half way between shrinking again and growing again. A burst that fills and drains the vector
+     * therefore reallocates O(log n) times instead of once per push or erase around a single boundary.
+     * Capacities of 16 or less are never shrunk.
+     * @param threshold The load factor below which the vector shrinks , in (0,0.5).
+     * @return The shrinking policy.
+     * @throws IllegalArgumentException If threshold is outside (0,0.5).
+     */
+    default GrowthPolicy shrinking(double threshold){
+        if(!(threshold > 0 && threshold < 0.5)){
+            throw new IllegalArgumentException();
+        }
+        GrowthPolicy growth = this;
+        return new GrowthPolicy() {
+            @Override
+            public long grow(int capacity, int minCapacity){
+                return growth.grow(capacity, minCapacity);
+            }
+
+            @Override
+            public long shrink(int capacity, int size){
+                if(capacity <= 16 || size >= capacity * threshold){
+                    return capacity;
+                }
+                return Math.max((long) Math.ceil(size / (2 * threshold)), 16);
+            }
+        };
+    }
+
+    /**
+     * @param factor The multiplier applied to the capacity , greater than 1.
+     * @return A policy multiplying the capacity by factor. Amortized O(1) pushes, up to factor times the memory.
+     * @throws IllegalArgumentException If factor isn't greater than 1.
+     */
+    static GrowthPolicy geometric(double factor){
+        if(!(factor > 1)){
+            throw new IllegalArgumentException();
+        }
+        return (capacity, minCapacity) -> (long) (capacity * factor);
+    }
+
+    /**
+     * @param step The number of slots added every time , positive.
+     * @return A policy adding step slots. Wastes at most step slots but pushes cost amortized O(n / step).
+     * @throws IllegalArgumentException If step isn't positive.
+     */
+    static GrowthPolicy increment(int step){
+        if(step <= 0){
+            throw new IllegalArgumentException();
+        }
+        return (capacity, minCapacity) -> (long) capacity + step;
+    }
+
+    /**
+     * @param factor The multiplier applied to the capacity while it's below cap , greater than 1.
+     * @param cap The capacity from which the vector grows cap slots at a time , positive.
+     * @return A policy growing geometrically up to cap and linearly past it, so a huge vector never reserves more
+     * than cap unused slots.
+     * @throws IllegalArgumentException If factor isn't greater than 1 or cap isn't positive.
+     */
+    static GrowthPolicy capped(double factor, int cap){
+        if(!(factor > 1) || cap <= 0){
+            throw new IllegalArgumentException();
+        }
+        return (capacity, minCapacity) -> capacity < cap ? (long) (capacity * factor) : (long) capacity + cap;
+    }
+}
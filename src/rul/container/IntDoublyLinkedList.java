@@ -0,0 +1,633 @@
+package rul.container;
+
+import rul.iterator.IntBidirectionalIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A DoublyLinkedList of int elements that doesn't allocate a node per element.
+ *
+ * Nodes are slots in three parallel arrays holding the data, the previous and the next slot. Erased slots are kept
+ * in an internal free-list , chained through the next array , and are handed out again by the following insertion.
+ * The arrays only grow , doubling when the free-list is empty and every slot is in use.
+ *
+ * Since storage belongs to a single list , iterators of one IntDoublyLinkedList are rejected by the modifiers of
+ * another , and moving elements between two lists copies them.
+ */
+@SuppressWarnings("unused")
+public class IntDoublyLinkedList extends Container<Integer> {
+
+    private static final int NIL = -1;
+
+    private int[] data;
+    private int[] prev;
+    private int[] next;
+
+    private int head = NIL;
+    private int tail = NIL;
+
+    // First slot of the free-list.
+    private int free = NIL;
+    // Slots in [used,capacity) have never been handed out.
+    private int used = 0;
+
+    public IntDoublyLinkedList(){
+        this(16);
+    }
+
+    public IntDoublyLinkedList(int capacity){
+        data = new int[capacity];
+        prev = new int[capacity];
+        next = new int[capacity];
+    }
+
+    // Iterators
+
+    /**
+     * @return Iterator pointing to the first element. Or an invalid iterator if the list is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public IntBidirectionalIterator begin(){
+        return new ILLIterator(head, false);
+    }
+
+    /**
+     * @return Iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public IntBidirectionalIterator end(){
+        return new ILLIterator(NIL, false);
+    }
+
+    /**
+     * @return Reverse iterator pointing to the last element. Or an invalid iterator if the list is empty.
+     * @complexity O(1).
+     */
+    public IntBidirectionalIterator reverseBegin(){
+        return new ILLIterator(tail, true);
+    }
+
+    /**
+     * @return Reverse iterator pointing before the first element.
+     * @complexity O(1).
+     */
+    public IntBidirectionalIterator reverseEnd(){
+        return new ILLIterator(NIL, true);
+    }
+
+    // Capacity
+
+    /**
+     * @return The number of nodes the list can hold before growing its arrays.
+     * @complexity O(1).
+     */
+    public int capacity(){
+        return data.length;
+    }
+
+    /**
+     * Requests that the list can hold at least n nodes without growing.
+     * @param n Requested capacity.
+     * @complexity If a reallocation happens O(n), constant otherwise.
+     * @iterators All iterators remain valid.
+     */
+    public void reserve(int n){
+        if(n > data.length){
+            reallocate(n);
+        }
+    }
+
+    // Element Access
+
+    /**
+     * @return The first element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     * @complexity O(1).
+     */
+    public int getFront(){
+        if(head == NIL){
+            throw new NoSuchElementException();
+        }
+        return data[head];
+    }
+
+    /**
+     * Sets the first element.
+     * @param t The new value.
+     * @throws NoSuchElementException If the list is empty.
+     * @complexity O(1).
+     */
+    public void setFront(int t){
+        if(head == NIL){
+            throw new NoSuchElementException();
+        }
+        data[head] = t;
+    }
+
+    /**
+     * @return The last element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     * @complexity O(1).
+     */
+    public int getBack(){
+        if(tail == NIL){
+            throw new NoSuchElementException();
+        }
+        return data[tail];
+    }
+
+    /**
+     * Sets the last element.
+     * @param t The new value.
+     * @throws NoSuchElementException If the list is empty.
+     * @complexity O(1).
+     */
+    public void setBack(int t){
+        if(tail == NIL){
+            throw new NoSuchElementException();
+        }
+        data[tail] = t;
+    }
+
+    // Modifiers
+
+    /**
+     * Inserts a new element after the specified iterator.
+     * @param position The specified iterator.
+     * @param t The new element.
+     * @return An iterator pointing to the new element.
+     * @throws IllegalArgumentException If the supplied iterator doesn't belong to this list.
+     * @throws NoSuchElementException If position is end().
+     * @complexity Amortized O(1).
+     */
+    public IntBidirectionalIterator insertAfter(final IntBidirectionalIterator position, int t){
+        int node = toElement(position);
+
+        int n = allocate(t, node, next[node]);
+        link(n);
+        return new ILLIterator(n, false);
+    }
+
+    /**
+     * Inserts a new element before the specified iterator. Inserting before end() appends to the list.
+     * @param position The specified iterator.
+     * @param t The new element.
+     * @return An iterator pointing to the new element.
+     * @throws IllegalArgumentException If the supplied iterator doesn't belong to this list.
+     * @complexity Amortized O(1).
+     */
+    public IntBidirectionalIterator insertBefore(final IntBidirectionalIterator position, int t){
+        int node = toIndex(position);
+
+        int n = node == NIL ? allocate(t, tail, NIL) : allocate(t, prev[node], node);
+        link(n);
+        return new ILLIterator(n, false);
+    }
+
+    /**
+     * Erases the element pointed by the position iterator.
+     * @param position The element to be deleted.
+     * @return An iterator pointing to the element after the one specified by position.
+     * If position was the tail, then an invalidated iterator is returned.
+     * @iterators All but position remain valid.
+     * @throws IllegalArgumentException If the supplied iterator doesn't belong to this list.
+     * @throws NoSuchElementException If position is end().
+     * @complexity O(1).
+     */
+    public IntBidirectionalIterator erase(IntBidirectionalIterator position){
+        int node = toElement(position);
+
+        ILLIterator ret = new ILLIterator(next[node], false);
+        release(node);
+        return ret;
+    }
+
+    /**
+     * Erases elements in the range [first,last).
+     * @param first First interval.
+     * @param last Second interval.
+     * @return The element after the erased range.
+     * @iterators Iterators in the range [first,last) are invalidated, all else remain valid.
+     * @complexity n , where n is the number of elements between [first,last).
+     */
+    public IntBidirectionalIterator erase(IntBidirectionalIterator first, IntBidirectionalIterator last){
+        while(!first.equals(last)) {
+            first = erase(first);
+        }
+        return first;
+    }
+
+    /**
+     * Removes all of the list elements , leaving the size 0 and the capacity untouched.
+     *
+     * @iterators All iterators are invalidated.
+     * @complexity O(1).
+     */
+    public void clear(){
+        head = tail = free = NIL;
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * Swaps elements between the two lists.
+     * @complexity O(1).
+     * @param list The second list to swap elements with.
+     * @iterators All iterators remain unchanged,pointing to the exact same elements in the other container.
+     */
+    public void swap(IntDoublyLinkedList list){
+        int[] tempArr = data;
+        data = list.data;
+        list.data = tempArr;
+
+        tempArr = prev;
+        prev = list.prev;
+        list.prev = tempArr;
+
+        tempArr = next;
+        next = list.next;
+        list.next = tempArr;
+
+        int temp = head;
+        head = list.head;
+        list.head = temp;
+
+        temp = tail;
+        tail = list.tail;
+        list.tail = temp;
+
+        temp = free;
+        free = list.free;
+        list.free = temp;
+
+        temp = used;
+        used = list.used;
+        list.used = temp;
+
+        temp = size;
+        size = list.size;
+        list.size = temp;
+    }
+
+    /**
+     * Insert element on the front of the list.
+     * @complexity Amortized O(1).
+     * @iterators All iterators remain valid.
+     * @param t The element to be inserted.
+     */
+    public void pushFront(int t){
+        link(allocate(t, NIL, head));
+    }
+
+    /**
+     * Remove element from the front.
+     * @complexity O(1).
+     * @iterators All other iterators remain valid.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    public void popFront(){
+        if(size > 0){
+            release(head);
+        }else{
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Insert element on the back of the list.
+     * @complexity Amortized O(1).
+     * @iterators All iterators remain valid.
+     * @param t The element to be inserted.
+     */
+    public void pushBack(int t){
+        link(allocate(t, tail, NIL));
+    }
+
+    /**
+     * Remove element from the back.
+     * @complexity O(1).
+     * @iterators All other iterators remain valid.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    public void popBack(){
+        if(size > 0){
+            release(tail);
+        }else{
+            throw new NoSuchElementException();
+        }
+    }
+
+    // Operations
+
+    /**
+     * Moves every element of list after position, leaving list empty.
+     *
+     * Each list owns its storage so the elements are copied over, which makes this linear in list's size.
+     * @param position The position to add the elements after.
+     * @param list The list the elements are taken from.
+     * @throws IllegalArgumentException If list is this list or position doesn't belong to this list.
+     * @throws NoSuchElementException If position is end().
+     * @complexity O(n), where n is the size of list.
+     * @iterators Iterators of list are invalidated, all iterators of this list remain valid.
+     */
+    public void splice(IntBidirectionalIterator position, IntDoublyLinkedList list){
+        if(list == this){
+            throw new IllegalArgumentException();
+        }
+        int pos = toElement(position);
+
+        for(int node = list.head; node != NIL; node = list.next[node]){
+            int n = allocate(list.data[node], pos, next[pos]);
+            link(n);
+            pos = n;
+        }
+        list.clear();
+    }
+
+    /**
+     * Moves the element pointed by i from list to after position.
+     * @param position The position to add the element after.
+     * @param list The list the element is taken from, may be this list.
+     * @param i The element to be moved.
+     * @throws NoSuchElementException If position or i is end().
+     * @complexity O(1).
+     * @iterators i is invalidated when list isn't this list, all other iterators remain valid.
+     */
+    public void splice(IntBidirectionalIterator position, IntDoublyLinkedList list, IntBidirectionalIterator i){
+        int pos = toElement(position);
+        int node = list.toElement(i);
+
+        if(list == this){
+            if(node == pos){
+                return;
+            }
+            unlink(node);
+            prev[node] = pos;
+            next[node] = next[pos];
+            link(node);
+        }else{
+            int t = list.data[node];
+            list.release(node);
+            link(allocate(t, pos, next[pos]));
+        }
+    }
+
+    /**
+     * Moves the range [first,last) of list to after position.
+     *
+     * Within the same list the range is relinked in constant time, position must not be part of it.
+     * Between two lists the elements are copied.
+     * @param position The position to add the range after.
+     * @param list The list from where this range is taken, may be this list.
+     * @param first The first interval.
+     * @param last The second interval.
+     * @throws NoSuchElementException If position is end().
+     * @complexity O(1) when list is this list, O(n) otherwise where n is the length of the range.
+     * @iterators Iterators to the moved elements remain valid if list is this list and are invalidated otherwise.
+     */
+    public void splice(IntBidirectionalIterator position, IntDoublyLinkedList list, IntBidirectionalIterator first,
+                       IntBidirectionalIterator last){
+        int pos = toElement(position);
+        int begin = list.toIndex(first);
+        int end = list.toIndex(last);
+
+        if(begin == end){
+            return;
+        }
+
+        if(list == this){
+            int rangeTail = end == NIL ? tail : prev[end];
+
+            // Detach [begin,rangeTail].
+            if(prev[begin] != NIL){
+                next[prev[begin]] = end;
+            }else{
+                head = end;
+            }
+            if(end != NIL){
+                prev[end] = prev[begin];
+            }else{
+                tail = prev[begin];
+            }
+
+            // Attach it after pos.
+            int after = next[pos];
+            next[pos] = begin;
+            prev[begin] = pos;
+            next[rangeTail] = after;
+            if(after != NIL){
+                prev[after] = rangeTail;
+            }else{
+                tail = rangeTail;
+            }
+        }else{
+            for(int node = begin; node != end; ){
+                int n = allocate(list.data[node], pos, next[pos]);
+                link(n);
+                pos = n;
+
+                int following = list.next[node];
+                list.release(node);
+                node = following;
+            }
+        }
+    }
+
+    private int allocate(int t, int p, int n){
+        int node;
+        if(free != NIL){
+            node = free;
+            free = next[node];
+        }else{
+            if(used == data.length){
+                reallocate(data.length == 0 ? 1 : data.length * 2);
+            }
+            node = used++;
+        }
+        data[node] = t;
+        prev[node] = p;
+        next[node] = n;
+        return node;
+    }
+
+    private void reallocate(int capacity){
+        data = Arrays.copyOf(data, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        next = Arrays.copyOf(next, capacity);
+    }
+
+    private void link(int node){
+        if(prev[node] != NIL){
+            next[prev[node]] = node;
+        }else{
+            head = node;
+        }
+
+        if(next[node] != NIL){
+            prev[next[node]] = node;
+        }else{
+            tail = node;
+        }
+
+        size = size + 1;
+    }
+
+    private void unlink(int node){
+        if(prev[node] != NIL){
+            next[prev[node]] = next[node];
+        }else{
+            head = next[node];
+        }
+
+        if(next[node] != NIL){
+            prev[next[node]] = prev[node];
+        }else{
+            tail = prev[node];
+        }
+
+        size = size - 1;
+    }
+
+    // Unlinks node and hands its slot to the free-list.
+    private void release(int node){
+        unlink(node);
+        prev[node] = NIL;
+        next[node] = free;
+        free = node;
+    }
+
+    private int toIndex(IntBidirectionalIterator iterator){
+        if(iterator.getClass() == ILLIterator.class){
+            ILLIterator it = (ILLIterator) iterator;
+            if(it.owner() == this){
+                return it.node;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    // The slot of an iterator that must point to an element , end() maps to NIL which isn't one.
+    private int toElement(IntBidirectionalIterator iterator){
+        int node = toIndex(iterator);
+        if(node == NIL){
+            throw new NoSuchElementException();
+        }
+        return node;
+    }
+
+    private class ILLIterator implements IntBidirectionalIterator {
+
+        private int node;
+        private final boolean reverse;
+
+        private ILLIterator(int node, boolean reverse){
+            this.node = node;
+            this.reverse = reverse;
+        }
+
+        @Override
+        public int getInt() {
+            return data[node];
+        }
+
+        @Override
+        public void setInt(int t) {
+            data[node] = t;
+        }
+
+        @Override
+        public int nextInt() {
+            int t = data[node];
+            inc();
+            return t;
+        }
+
+        @Override
+        public int previousInt() {
+            return dec().getInt();
+        }
+
+        @Override
+        public Integer get() {
+            return getInt();
+        }
+
+        @Override
+        public void set(Integer t) {
+            setInt(t);
+        }
+
+        @Override
+        public Integer next() {
+            return nextInt();
+        }
+
+        @Override
+        public Integer previous() {
+            return previousInt();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return node != NIL;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            if(node == NIL){
+                return (reverse ? head : tail) != NIL;
+            }
+            return (reverse ? next[node] : prev[node]) != NIL;
+        }
+
+        @Override
+        public IntBidirectionalIterator inc() {
+            if(reverse){
+                backward();
+            }else{
+                forward();
+            }
+            return this;
+        }
+
+        @Override
+        public IntBidirectionalIterator dec() {
+            if(reverse){
+                forward();
+            }else{
+                backward();
+            }
+            return this;
+        }
+
+        private void forward(){
+            node = node != NIL ? next[node] : head;
+        }
+
+        private void backward(){
+            node = node != NIL ? prev[node] : tail;
+        }
+
+        private IntDoublyLinkedList owner(){
+            return IntDoublyLinkedList.this;
+        }
+
+        @Override
+        public boolean equals(Object s) {
+            if(getClass() != s.getClass()){
+                return false;
+            }else {
+                ILLIterator obj = (ILLIterator) s;
+                return node == obj.node && reverse == obj.reverse && owner() == obj.owner();
+            }
+        }
+
+        @Override
+        public IntBidirectionalIterator clone() {
+            return new ILLIterator(node, reverse);
+        }
+    }
+}
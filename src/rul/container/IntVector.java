@@ -0,0 +1,279 @@
+package rul.container;
+
+import rul.iterator.IntRandomAccessIterator;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A Vector specialized for int elements.
+ *
+ * Elements are kept in an int[] so neither the container nor its IntRandomAccessIterator ever box.
+ */
+public class IntVector extends Container<Integer> {
+    private int[] arr;
+
+    public IntVector(){
+        this(1);
+    }
+
+    public IntVector(int capacity){
+        arr = new int[capacity];
+    }
+
+    // Iterators
+
+    /**
+     * @return Iterator pointing to the first element. Equal to end() if the vector is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public IntRandomAccessIterator begin() {
+        return new IVIterator(0);
+    }
+
+    /**
+     * @return Iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public IntRandomAccessIterator end() {
+        return new IVIterator(size);
+    }
+
+    //Capacity
+
+    public int capacity(){
+        return arr.length;
+    }
+
+    /**
+     * Requests that the vector capacity be at least enough to contain n elements.
+     *
+     * If n is greater than the current vector capacity, the function causes the container to reallocate its
+     * storage increasing its capacity to n.
+     *
+     * In all other cases, the function call does not cause a reallocation and the vector capacity is not affected.
+     * @param n Requested capacity.
+     * @complexity If a reallocation happens O(n), constant otherwise.
+     */
+    public void reserve(int n){
+        if(n > arr.length){
+            reallocate(n);
+        }
+    }
+
+    /**
+     * Requests the container to reduce its capacity to fit its size.
+     *
+     * @complexity If a reallocation happens O(n), constant otherwise.
+     */
+    public void shrinkToFit(){
+        if(arr.length > size){
+            reallocate(size);
+        }
+    }
+
+    private void reallocate(int capacity){
+        arr = Arrays.copyOf(arr, capacity);
+    }
+
+    private void grow(){
+        reallocate(arr.length == 0 ? 1 : arr.length * 2);
+    }
+
+    //Element Access
+
+    /**
+     * @param index The position of the element.
+     * @return The element at index.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public int get(int index){
+        checkIndex(index);
+        return arr[index];
+    }
+
+    /**
+     * Replaces the element at index.
+     * @param index The position of the element.
+     * @param data The new value.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public void set(int index, int data){
+        checkIndex(index);
+        arr[index] = data;
+    }
+
+    //Modifiers
+
+    /**
+     * Inserts data before the element at index, shifting everything after it one position to the right.
+     * @param index The position of the new element, size() appends.
+     * @param data The new element.
+     * @throws IndexOutOfBoundsException If index is outside [0,size].
+     * @complexity O(n), amortized O(1) at the back.
+     */
+    public void insert(int index, int data){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException(index);
+        }
+        if(size == arr.length){
+            grow();
+        }
+        System.arraycopy(arr, index, arr, index + 1, size - index);
+        arr[index] = data;
+        size = size + 1;
+    }
+
+    /**
+     * Appends data at the back of the vector.
+     * @param data The new element.
+     * @complexity Amortized O(1).
+     */
+    public void pushBack(int data){
+        if(size == arr.length){
+            grow();
+        }
+        arr[size++] = data;
+    }
+
+    /**
+     * Removes the last element.
+     * @throws NoSuchElementException If the vector is empty.
+     * @complexity O(1).
+     */
+    public void popBack(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        size = size - 1;
+    }
+
+    /**
+     * Removes all elements, leaving the capacity untouched.
+     * @complexity O(1).
+     */
+    public void clear(){
+        size = 0;
+    }
+
+    // The storage , for ContainerCodec to copy in and out of in bulk.
+    int[] array(){
+        return arr;
+    }
+
+    private void checkIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private class IVIterator implements IntRandomAccessIterator {
+
+        private int index;
+
+        private IVIterator(int index){
+            this.index = index;
+        }
+
+        @Override
+        public int getInt() {
+            return arr[index];
+        }
+
+        @Override
+        public void setInt(int t) {
+            arr[index] = t;
+        }
+
+        @Override
+        public int nextInt() {
+            return arr[index++];
+        }
+
+        @Override
+        public int previousInt() {
+            return arr[--index];
+        }
+
+        @Override
+        public Integer get() {
+            return getInt();
+        }
+
+        @Override
+        public void set(Integer t) {
+            setInt(t);
+        }
+
+        @Override
+        public Integer next() {
+            return nextInt();
+        }
+
+        @Override
+        public Integer previous() {
+            return previousInt();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public IntRandomAccessIterator inc() {
+            ++index;
+            return this;
+        }
+
+        @Override
+        public IntRandomAccessIterator dec() {
+            --index;
+            return this;
+        }
+
+        @Override
+        public void advance(long n) {
+            index = Math.toIntExact(index + n);
+        }
+
+        @Override
+        public IntRandomAccessIterator add(long n) {
+            return new IVIterator(Math.toIntExact(index + n));
+        }
+
+        @Override
+        public long distance(RandomAccessIterator<Integer> last) {
+            return ((IVIterator) last).index - index;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }else{
+                IVIterator it = (IVIterator) obj;
+                return index == it.index && owner() == it.owner();
+            }
+        }
+
+        private IntVector owner(){
+            return IntVector.this;
+        }
+
+        @Override
+        public IntRandomAccessIterator clone() {
+            return new IVIterator(index);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package rul.container;
+
+import rul.iterator.LongRandomAccessIterator;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A Vector specialized for long elements.
+ *
+ * Elements are kept in a long[] so neither the container nor its LongRandomAccessIterator ever box.
+ */
+public class LongVector extends Container<Long> {
+    private long[] arr;
+
+    public LongVector(){
+        this(1);
+    }
+
+    public LongVector(int capacity){
+        arr = new long[capacity];
+    }
+
+    // Iterators
+
+    /**
+     * @return Iterator pointing to the first element. Equal to end() if the vector is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public LongRandomAccessIterator begin() {
+        return new LVIterator(0);
+    }
+
+    /**
+     * @return Iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public LongRandomAccessIterator end() {
+        return new LVIterator(size);
+    }
+
+    //Capacity
+
+    public int capacity(){
+        return arr.length;
+    }
+
+    /**
+     * Requests that the vector capacity be at least enough to contain n elements.
+     *
+     * If n is greater than the current vector capacity, the function causes the container to reallocate its
+     * storage increasing its capacity to n.
+     *
+     * In all other cases, the function call does not cause a reallocation and the vector capacity is not affected.
+     * @param n Requested capacity.
+     * @complexity If a reallocation happens O(n), constant otherwise.
+     */
+    public void reserve(int n){
+        if(n > arr.length){
+            reallocate(n);
+        }
+    }
+
+    /**
+     * Requests the container to reduce its capacity to fit its size.
+     *
+     * @complexity If a reallocation happens O(n), constant otherwise.
+     */
+    public void shrinkToFit(){
+        if(arr.length > size){
+            reallocate(size);
+        }
+    }
+
+    private void reallocate(int capacity){
+        arr = Arrays.copyOf(arr, capacity);
+    }
+
+    private void grow(){
+        reallocate(arr.length == 0 ? 1 : arr.length * 2);
+    }
+
+    //Element Access
+
+    /**
+     * @param index The position of the element.
+     * @return The element at index.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public long get(int index){
+        checkIndex(index);
+        return arr[index];
+    }
+
+    /**
+     * Replaces the element at index.
+     * @param index The position of the element.
+     * @param data The new value.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public void set(int index, long data){
+        checkIndex(index);
+        arr[index] = data;
+    }
+
+    //Modifiers
+
+    /**
+     * Inserts data before the element at index, shifting everything after it one position to the right.
+     * @param index The position of the new element, size() appends.
+     * @param data The new element.
+     * @throws IndexOutOfBoundsException If index is outside [0,size].
+     * @complexity O(n), amortized O(1) at the back.
+     */
+    public void insert(int index, long data){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException(index);
+        }
+        if(size == arr.length){
+            grow();
+        }
+        System.arraycopy(arr, index, arr, index + 1, size - index);
+        arr[index] = data;
+        size = size + 1;
+    }
+
+    /**
+     * Appends data at the back of the vector.
+     * @param data The new element.
+     * @complexity Amortized O(1).
+     */
+    public void pushBack(long data){
+        if(size == arr.length){
+            grow();
+        }
+        arr[size++] = data;
+    }
+
+    /**
+     * Removes the last element.
+     * @throws NoSuchElementException If the vector is empty.
+     * @complexity O(1).
+     */
+    public void popBack(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        size = size - 1;
+    }
+
+    /**
+     * Removes all elements, leaving the capacity untouched.
+     * @complexity O(1).
+     */
+    public void clear(){
+        size = 0;
+    }
+
+    // The storage , for ContainerCodec to copy in and out of in bulk.
+    long[] array(){
+        return arr;
+    }
+
+    private void checkIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private class LVIterator implements LongRandomAccessIterator {
+
+        private int index;
+
+        private LVIterator(int index){
+            this.index = index;
+        }
+
+        @Override
+        public long getLong() {
+            return arr[index];
+        }
+
+        @Override
+        public void setLong(long t) {
+            arr[index] = t;
+        }
+
+        @Override
+        public long nextLong() {
+            return arr[index++];
+        }
+
+        @Override
+        public long previousLong() {
+            return arr[--index];
+        }
+
+        @Override
+        public Long get() {
+            return getLong();
+        }
+
+        @Override
+        public void set(Long t) {
+            setLong(t);
+        }
+
+        @Override
+        public Long next() {
+            return nextLong();
+        }
+
+        @Override
+        public Long previous() {
+            return previousLong();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public LongRandomAccessIterator inc() {
+            ++index;
+            return this;
+        }
+
+        @Override
+        public LongRandomAccessIterator dec() {
+            --index;
+            return this;
+        }
+
+        @Override
+        public void advance(long n) {
+            index = Math.toIntExact(index + n);
+        }
+
+        @Override
+        public LongRandomAccessIterator add(long n) {
+            return new LVIterator(Math.toIntExact(index + n));
+        }
+
+        @Override
+        public long distance(RandomAccessIterator<Long> last) {
+            return ((LVIterator) last).index - index;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }else{
+                LVIterator it = (LVIterator) obj;
+                return index == it.index && owner() == it.owner();
+            }
+        }
+
+        private LongVector owner(){
+            return LongVector.this;
+        }
+
+        @Override
+        public LongRandomAccessIterator clone() {
+            return new LVIterator(index);
+        }
+    }
+}
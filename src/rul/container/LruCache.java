@@ -0,0 +1,441 @@
+package rul.container;
+
+import rul.iterator.BidirectionalIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A fixed capacity map that keeps its entries in recency order and evicts the least recently used one when full.
+ *
+ * Entries are slots in parallel arrays , like the nodes of IntDoublyLinkedList , linked from the most to the least
+ * recently used. The hash index is an open addressing table of slot numbers with linear probing, so a lookup lands
+ * directly on the slot that is then moved to the front: get, put, move to front and eviction are all O(1) and,
+ * after construction, allocate nothing.
+ *
+ * Iteration goes over the values from the most to the least recently used, without changing the order.
+ * Keys must not be null.
+ */
+public class LruCache<K,V> extends Container<V> {
+
+    private static final int NIL = -1;
+
+    private final Object[] keys;
+    private final Object[] values;
+    private final int[] hashes;
+    private final int[] prev;
+    private final int[] next;
+
+    // Slot + 1 for every entry , 0 for an empty bucket. Kept at most half full.
+    private final int[] table;
+    private final int shift;
+
+    private final BiConsumer<? super K, ? super V> onEvict;
+
+    // Most and least recently used slots.
+    private int head = NIL;
+    private int tail = NIL;
+
+    // First slot of the free-list , chained through next.
+    private int free = NIL;
+    // Slots in [used,capacity) have never been handed out.
+    private int used = 0;
+
+    public LruCache(int capacity){
+        this(capacity, (k, v) -> {});
+    }
+
+    /**
+     * @param capacity The maximum number of entries.
+     * @param onEvict Called with every entry evicted to make room , after it has been removed. Entries removed
+     *                through remove or clear aren't reported.
+     * @throws IllegalArgumentException If capacity isn't positive or is too large to index.
+     */
+    public LruCache(int capacity, BiConsumer<? super K, ? super V> onEvict){
+        if(capacity <= 0 || capacity > 1 << 28){
+            throw new IllegalArgumentException();
+        }
+        this.onEvict = Objects.requireNonNull(onEvict);
+
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        prev = new int[capacity];
+        next = new int[capacity];
+
+        int buckets = Integer.highestOneBit(capacity) << 2;
+        table = new int[buckets];
+        shift = Integer.numberOfLeadingZeros(buckets - 1);
+    }
+
+    // Iterators
+
+    /**
+     * @return Iterator pointing to the most recently used value. Or an invalid iterator if the cache is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public BidirectionalIterator<V> begin(){
+        return new LRUIterator(head);
+    }
+
+    /**
+     * @return Iterator pointing past the least recently used value.
+     * @complexity O(1).
+     */
+    @Override
+    public BidirectionalIterator<V> end(){
+        return new LRUIterator(NIL);
+    }
+
+    /**
+     * Performs action on every entry from the most to the least recently used one.
+     * @param action The action to be performed.
+     * @complexity O(n).
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action){
+        for(int slot = head; slot != NIL; slot = next[slot]){
+            action.accept(key(slot), value(slot));
+        }
+    }
+
+    // Capacity
+
+    /**
+     * @return The maximum number of entries.
+     * @complexity O(1).
+     */
+    public int capacity(){
+        return keys.length;
+    }
+
+    // Lookup
+
+    /**
+     * Looks key up and marks it as the most recently used one.
+     * @param key The key.
+     * @return The value of key, or null if it isn't cached.
+     * @complexity O(1) expected.
+     */
+    public V get(Object key){
+        int slot = find(key);
+        if(slot == NIL){
+            return null;
+        }
+        moveToFront(slot);
+        return value(slot);
+    }
+
+    /**
+     * Looks key up without changing the order.
+     * @param key The key.
+     * @return The value of key, or null if it isn't cached.
+     * @complexity O(1) expected.
+     */
+    public V peek(Object key){
+        int slot = find(key);
+        return slot == NIL ? null : value(slot);
+    }
+
+    /**
+     * @param key The key.
+     * @return Whether key is cached , the order doesn't change.
+     * @complexity O(1) expected.
+     */
+    public boolean containsKey(Object key){
+        return find(key) != NIL;
+    }
+
+    /**
+     * @return The key of the least recently used entry, the next one to be evicted.
+     * @throws NoSuchElementException If the cache is empty.
+     * @complexity O(1).
+     */
+    public K eldestKey(){
+        if(tail == NIL){
+            throw new NoSuchElementException();
+        }
+        return key(tail);
+    }
+
+    // Modifiers
+
+    /**
+     * Associates value with key and marks key as the most recently used one.
+     *
+     * If key isn't cached and the cache is full , the least recently used entry is evicted first.
+     * @param key The key.
+     * @param value The value.
+     * @return The previous value of key, or null if it wasn't cached.
+     * @throws NullPointerException If key is null.
+     * @complexity O(1) expected.
+     */
+    public V put(K key, V value){
+        int hash = hash(key);
+        int bucket = bucket(hash);
+        for(int e = table[bucket]; e != 0; e = table[bucket]){
+            int slot = e - 1;
+            if(hashes[slot] == hash && key.equals(keys[slot])){
+                V old = value(slot);
+                values[slot] = value;
+                moveToFront(slot);
+                return old;
+            }
+            bucket = (bucket + 1) & (table.length - 1);
+        }
+
+        if(size == keys.length){
+            evictEldest();
+            // The eviction may have shifted entries into the bucket found above.
+            bucket = bucket(hash);
+            while(table[bucket] != 0){
+                bucket = (bucket + 1) & (table.length - 1);
+            }
+        }
+
+        int slot = allocate();
+        keys[slot] = key;
+        values[slot] = value;
+        hashes[slot] = hash;
+        table[bucket] = slot + 1;
+
+        prev[slot] = NIL;
+        next[slot] = head;
+        link(slot);
+        return null;
+    }
+
+    /**
+     * Removes key from the cache , onEvict isn't called.
+     * @param key The key.
+     * @return The value of key, or null if it wasn't cached.
+     * @complexity O(1) expected.
+     */
+    public V remove(Object key){
+        int slot = find(key);
+        if(slot == NIL){
+            return null;
+        }
+        V old = value(slot);
+        release(slot);
+        return old;
+    }
+
+    /**
+     * Evicts the least recently used entry, reporting it to onEvict.
+     * @return Whether there was an entry to evict.
+     * @complexity O(1) expected.
+     */
+    public boolean evictEldest(){
+        if(tail == NIL){
+            return false;
+        }
+        int slot = tail;
+        K key = key(slot);
+        V value = value(slot);
+        release(slot);
+        onEvict.accept(key, value);
+        return true;
+    }
+
+    /**
+     * Removes all of the entries , onEvict isn't called.
+     * @iterators All iterators are invalidated.
+     * @complexity O(capacity).
+     */
+    public void clear(){
+        Arrays.fill(table, 0);
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        head = tail = free = NIL;
+        used = 0;
+        size = 0;
+    }
+
+    private int find(Object key){
+        int hash = hash(key);
+        int bucket = bucket(hash);
+        for(int e = table[bucket]; e != 0; e = table[bucket]){
+            int slot = e - 1;
+            if(hashes[slot] == hash && key.equals(keys[slot])){
+                return slot;
+            }
+            bucket = (bucket + 1) & (table.length - 1);
+        }
+        return NIL;
+    }
+
+    private static int hash(Object key){
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    // Fibonacci hashing , spreads clustered hash codes over the whole table.
+    private int bucket(int hash){
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+
+    // Empties the bucket of slot , shifting back the entries of its probe sequence instead of leaving a tombstone.
+    private void removeFromTable(int slot){
+        int mask = table.length - 1;
+        int hole = bucket(hashes[slot]);
+        while(table[hole] != slot + 1){
+            hole = (hole + 1) & mask;
+        }
+
+        for(int i = (hole + 1) & mask; table[i] != 0; i = (i + 1) & mask){
+            int home = bucket(hashes[table[i] - 1]);
+            if(((i - home) & mask) >= ((i - hole) & mask)){
+                table[hole] = table[i];
+                hole = i;
+            }
+        }
+        table[hole] = 0;
+    }
+
+    private void moveToFront(int slot){
+        if(slot == head){
+            return;
+        }
+        unlink(slot);
+        prev[slot] = NIL;
+        next[slot] = head;
+        link(slot);
+    }
+
+    private int allocate(){
+        if(free != NIL){
+            int slot = free;
+            free = next[slot];
+            return slot;
+        }
+        return used++;
+    }
+
+    private void link(int slot){
+        if(prev[slot] != NIL){
+            next[prev[slot]] = slot;
+        }else{
+            head = slot;
+        }
+
+        if(next[slot] != NIL){
+            prev[next[slot]] = slot;
+        }else{
+            tail = slot;
+        }
+
+        size = size + 1;
+    }
+
+    private void unlink(int slot){
+        if(prev[slot] != NIL){
+            next[prev[slot]] = next[slot];
+        }else{
+            head = next[slot];
+        }
+
+        if(next[slot] != NIL){
+            prev[next[slot]] = prev[slot];
+        }else{
+            tail = prev[slot];
+        }
+
+        size = size - 1;
+    }
+
+    // Removes slot from the index and the order , and hands it to the free-list.
+    private void release(int slot){
+        removeFromTable(slot);
+        unlink(slot);
+        keys[slot] = null;
+        values[slot] = null;
+        prev[slot] = NIL;
+        next[slot] = free;
+        free = slot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int slot){
+        return (K) keys[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int slot){
+        return (V) values[slot];
+    }
+
+    private class LRUIterator implements BidirectionalIterator<V> {
+
+        private int slot;
+
+        private LRUIterator(int slot){
+            this.slot = slot;
+        }
+
+        @Override
+        public V get() {
+            return value(slot);
+        }
+
+        @Override
+        public void set(V t) {
+            values[slot] = t;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot != NIL;
+        }
+
+        @Override
+        public V next() {
+            V t = value(slot);
+            inc();
+            return t;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return (slot != NIL ? prev[slot] : tail) != NIL;
+        }
+
+        @Override
+        public V previous() {
+            return dec().get();
+        }
+
+        @Override
+        public BidirectionalIterator<V> inc() {
+            slot = slot != NIL ? next[slot] : head;
+            return this;
+        }
+
+        @Override
+        public BidirectionalIterator<V> dec() {
+            slot = slot != NIL ? prev[slot] : tail;
+            return this;
+        }
+
+        private LruCache<K,V> owner(){
+            return LruCache.this;
+        }
+
+        @Override
+        public boolean equals(Object s) {
+            if(getClass() != s.getClass()){
+                return false;
+            }else {
+                @SuppressWarnings("unchecked") var obj = (LRUIterator) s;
+                return slot == obj.slot && owner() == obj.owner();
+            }
+        }
+
+        @Override
+        public BidirectionalIterator<V> clone() {
+            return new LRUIterator(slot);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package rul.container;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The file behind the mapped vectors.
+ *
+ * Layout, little endian: a HEADER_BYTES header holding MAGIC, the element width, a type tag and the size, followed
+ * by the elements back to back. The size is only written after the element it accounts for, so a process dying in
+ * the middle of an append leaves a file that reopens to the elements appended before it.
+ */
+final class MappedFile {
+    static final long MAGIC = 0x313052544345564cL; // "LVECTR01"
+    static final int HEADER_BYTES = 64;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int WIDTH_OFFSET = 8;
+    private static final int TYPE_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ORDER);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final int elementBytes;
+
+    /**
+     * Opens path , creating it with an empty header if it doesn't exist.
+     * @throws IOException If the file can't be opened, belongs to another element type or is truncated.
+     */
+    MappedFile(Path path, int elementBytes, int type) throws IOException {
+        this.elementBytes = elementBytes;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try{
+            boolean created = channel.size() == 0;
+            this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ORDER);
+            if(created){
+                header.putInt(WIDTH_OFFSET, elementBytes);
+                header.putInt(TYPE_OFFSET, type);
+                header.putLong(SIZE_OFFSET, 0);
+                header.putLong(0, MAGIC);
+            }else if(header.getLong(0) != MAGIC || header.getInt(WIDTH_OFFSET) != elementBytes
+                    || header.getInt(TYPE_OFFSET) != type){
+                throw new IOException(path + " is not a vector of this type");
+            }else if(size() < 0 || size() > (channel.size() - HEADER_BYTES) / elementBytes){
+                throw new IOException(path + " is truncated");
+            }
+        }catch(IOException | RuntimeException e){
+            channel.close();
+            throw e;
+        }
+    }
+
+    long size(){
+        return header.getLong(SIZE_OFFSET);
+    }
+
+    // The release store keeps the element writes that precede it from being reordered after it.
+    void size(long size){
+        LONG.setRelease(header, SIZE_OFFSET, size);
+    }
+
+    /**
+     * Maps bytes bytes of elements starting at element index, growing the file if needed.
+     */
+    ByteBuffer map(long index, int bytes){
+        try{
+            return channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + index * elementBytes, bytes).order(ORDER);
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Cuts the file down to capacity elements.
+     */
+    void truncate(long capacity){
+        try{
+            channel.truncate(HEADER_BYTES + capacity * elementBytes);
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the header to the storage device , the elements are forced by their own mappings.
+     */
+    void force(){
+        header.force();
+    }
+
+    void close(){
+        OffHeapVector.DirectMemory.free(header);
+        try{
+            channel.close();
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+}
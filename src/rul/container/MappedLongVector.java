@@ -0,0 +1,125 @@
+package rul.container;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+/**
+ * An OffHeapLongVector whose blocks are mappings of a file, so its contents outlive the process.
+ *
+ * Reopening the file gives back the vector right away: nothing is read or deserialized, pages are brought in by
+ * the operating system as they are touched. pushBack grows the file and its mappings as needed.
+ *
+ * Every change of size is written to the file header after the elements themselves, a process killed mid-append
+ * reopens to the elements appended before it. Surviving a crash of the machine additionally takes force().
+ */
+public class MappedLongVector extends OffHeapLongVector {
+    private static final int TYPE = 'J';
+
+    private final MappedFile file;
+
+    /**
+     * Opens the vector stored at path , creating an empty one if the file doesn't exist.
+     * @param path The file.
+     * @throws IOException If the file can't be opened or doesn't hold a long vector.
+     */
+    public MappedLongVector(Path path) throws IOException {
+        this(path, 0, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * @param path The file.
+     * @param capacity The minimum initial capacity in elements.
+     * @param chunkBytes The size of every mapping, a power of two no smaller than Long.BYTES.
+     * @throws IOException If the file can't be opened or doesn't hold a long vector.
+     */
+    public MappedLongVector(Path path, long capacity, int chunkBytes) throws IOException {
+        super(0, chunkBytes);
+        file = new MappedFile(path, Long.BYTES, TYPE);
+        length = file.size();
+        reserve(Math.max(capacity, length));
+    }
+
+    /**
+     * Appends data at the back of the vector.
+     * @param data The new element.
+     * @throws IllegalStateException If the vector has been closed.
+     * @complexity Amortized O(1).
+     */
+    @Override
+    public void pushBack(long data){
+        super.pushBack(data);
+        file.size(length);
+    }
+
+    /**
+     * Removes the last element.
+     * @throws NoSuchElementException If the vector is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public void popBack(){
+        super.popBack();
+        file.size(length);
+    }
+
+    /**
+     * Removes all elements, leaving the capacity untouched.
+     * @complexity O(1).
+     */
+    @Override
+    public void clear(){
+        super.clear();
+        file.size(length);
+    }
+
+    /**
+     * Requests the container to reduce its capacity to fit its size, truncating the file.
+     * @throws IllegalStateException If the vector has been closed.
+     * @complexity O(blocks).
+     */
+    @Override
+    public void shrinkToFit(){
+        super.shrinkToFit();
+        file.truncate(capacity);
+    }
+
+    /**
+     * Writes every change made so far to the storage device.
+     * @throws IllegalStateException If the vector has been closed.
+     * @complexity O(capacity) worst case.
+     */
+    public void force(){
+        ensureOpen();
+        for(ByteBuffer chunk : chunks){
+            ((MappedByteBuffer) chunk).force();
+        }
+        file.force();
+    }
+
+    /**
+     * Unmaps the file and closes it, the contents stay in the file.
+     * @iterators All iterators are invalidated.
+     */
+    @Override
+    public void close(){
+        if(!isClosed()){
+            super.close();
+            file.close();
+        }
+    }
+
+    @Override
+    protected ByteBuffer allocate(int chunk, int bytes){
+        return file.map((long) chunk << chunkShift, bytes);
+    }
+
+    // The elements already are in the file , only the mapping changes.
+    @Override
+    protected ByteBuffer resize(ByteBuffer old, int bytes, int keep){
+        release(old);
+        return allocate(0, bytes);
+    }
+}
@@ -0,0 +1,210 @@
+package rul.container;
+
+import rul.iterator.DoubleRandomAccessIterator;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A DoubleVector whose elements live in native memory, see OffHeapVector.
+ *
+ * Indexes are longs so the vector can hold more than Integer.MAX_VALUE elements, and no matter its length it adds
+ * nothing for the garbage collector to scan or copy. Remember to close() it.
+ */
+public class OffHeapDoubleVector extends OffHeapVector<Double> {
+
+    public OffHeapDoubleVector(){
+        this(1);
+    }
+
+    public OffHeapDoubleVector(long capacity){
+        this(capacity, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * @param capacity The initial capacity in elements.
+     * @param chunkBytes The size of every native block, a power of two no smaller than Double.BYTES.
+     * @throws IllegalArgumentException If chunkBytes isn't a power of two or capacity is negative.
+     */
+    public OffHeapDoubleVector(long capacity, int chunkBytes){
+        super(capacity, Double.BYTES, chunkBytes);
+    }
+
+    // Iterators
+
+    /**
+     * @return Iterator pointing to the first element. Equal to end() if the vector is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public DoubleRandomAccessIterator begin() {
+        return new ODVIterator(0);
+    }
+
+    /**
+     * @return Iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public DoubleRandomAccessIterator end() {
+        return new ODVIterator(length);
+    }
+
+    //Element Access
+
+    /**
+     * @param index The position of the element.
+     * @return The element at index.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public double get(long index){
+        checkIndex(index);
+        return chunk(index).getDouble(offset(index));
+    }
+
+    /**
+     * Replaces the element at index.
+     * @param index The position of the element.
+     * @param data The new value.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public void set(long index, double data){
+        checkIndex(index);
+        chunk(index).putDouble(offset(index), data);
+    }
+
+    //Modifiers
+
+    /**
+     * Appends data at the back of the vector.
+     * @param data The new element.
+     * @throws IllegalStateException If the vector has been closed.
+     * @complexity Amortized O(1).
+     */
+    public void pushBack(double data){
+        long index = append();
+        chunk(index).putDouble(offset(index), data);
+    }
+
+    /**
+     * Removes the last element.
+     * @throws NoSuchElementException If the vector is empty.
+     * @complexity O(1).
+     */
+    public void popBack(){
+        if(length == 0){
+            throw new NoSuchElementException();
+        }
+        length = length - 1;
+    }
+
+    private class ODVIterator implements DoubleRandomAccessIterator {
+
+        private long index;
+
+        private ODVIterator(long index){
+            this.index = index;
+        }
+
+        @Override
+        public double getDouble() {
+            return chunk(index).getDouble(offset(index));
+        }
+
+        @Override
+        public void setDouble(double t) {
+            chunk(index).putDouble(offset(index), t);
+        }
+
+        @Override
+        public double nextDouble() {
+            double t = getDouble();
+            index = index + 1;
+            return t;
+        }
+
+        @Override
+        public double previousDouble() {
+            index = index - 1;
+            return getDouble();
+        }
+
+        @Override
+        public Double get() {
+            return getDouble();
+        }
+
+        @Override
+        public void set(Double t) {
+            setDouble(t);
+        }
+
+        @Override
+        public Double next() {
+            return nextDouble();
+        }
+
+        @Override
+        public Double previous() {
+            return previousDouble();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < length;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public DoubleRandomAccessIterator inc() {
+            ++index;
+            return this;
+        }
+
+        @Override
+        public DoubleRandomAccessIterator dec() {
+            --index;
+            return this;
+        }
+
+        @Override
+        public void advance(long n) {
+            index = index + n;
+        }
+
+        @Override
+        public DoubleRandomAccessIterator add(long n) {
+            return new ODVIterator(index + n);
+        }
+
+        @Override
+        public long distance(RandomAccessIterator<Double> last) {
+            return ((ODVIterator) last).index - index;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }else{
+                ODVIterator it = (ODVIterator) obj;
+                return index == it.index && owner() == it.owner();
+            }
+        }
+
+        private OffHeapDoubleVector owner(){
+            return OffHeapDoubleVector.this;
+        }
+
+        @Override
+        public DoubleRandomAccessIterator clone() {
+            return new ODVIterator(index);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package rul.container;
+
+import rul.iterator.LongRandomAccessIterator;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A LongVector whose elements live in native memory, see OffHeapVector.
+ *
+ * Indexes are longs so the vector can hold more than Integer.MAX_VALUE elements, and no matter its length it adds
+ * nothing for the garbage collector to scan or copy. Remember to close() it.
+ */
+public class OffHeapLongVector extends OffHeapVector<Long> {
+
+    public OffHeapLongVector(){
+        this(1);
+    }
+
+    public OffHeapLongVector(long capacity){
+        this(capacity, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * @param capacity The initial capacity in elements.
+     * @param chunkBytes The size of every native block, a power of two no smaller than Long.BYTES.
+     * @throws IllegalArgumentException If chunkBytes isn't a power of two or capacity is negative.
+     */
+    public OffHeapLongVector(long capacity, int chunkBytes){
+        super(capacity, Long.BYTES, chunkBytes);
+    }
+
+    // Iterators
+
+    /**
+     * @return Iterator pointing to the first element. Equal to end() if the vector is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public LongRandomAccessIterator begin() {
+        return new OLVIterator(0);
+    }
+
+    /**
+     * @return Iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public LongRandomAccessIterator end() {
+        return new OLVIterator(length);
+    }
+
+    //Element Access
+
+    /**
+     * @param index The position of the element.
+     * @return The element at index.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public long get(long index){
+        checkIndex(index);
+        return chunk(index).getLong(offset(index));
+    }
+
+    /**
+     * Replaces the element at index.
+     * @param index The position of the element.
+     * @param data The new value.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
+    public void set(long index, long data){
+        checkIndex(index);
+        chunk(index).putLong(offset(index), data);
+    }
+
+    //Modifiers
+
+    /**
+     * Appends data at the back of the vector.
+     * @param data The new element.
+     * @throws IllegalStateException If the vector has been closed.
+     * @complexity Amortized O(1).
+     */
+    public void pushBack(long data){
+        long index = append();
+        chunk(index).putLong(offset(index), data);
+    }
+
+    /**
+     * Removes the last element.
+     * @throws NoSuchElementException If the vector is empty.
+     * @complexity O(1).
+     */
+    public void popBack(){
+        if(length == 0){
+            throw new NoSuchElementException();
+        }
+        length = length - 1;
+    }
+
+    private class OLVIterator implements LongRandomAccessIterator {
+
+        private long index;
+
+        private OLVIterator(long index){
+            this.index = index;
+        }
+
+        @Override
+        public long getLong() {
+            return chunk(index).getLong(offset(index));
+        }
+
+        @Override
+        public void setLong(long t) {
+            chunk(index).putLong(offset(index), t);
+        }
+
+        @Override
+        public long nextLong() {
+            long t = getLong();
+            index = index + 1;
+            return t;
+        }
+
+        @Override
+        public long previousLong() {
+            index = index - 1;
+            return getLong();
+        }
+
+        @Override
+        public Long get() {
+            return getLong();
+        }
+
+        @Override
+        public void set(Long t) {
+            setLong(t);
+        }
+
+        @Override
+        public Long next() {
+            return nextLong();
+        }
+
+        @Override
+        public Long previous() {
+            return previousLong();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < length;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public LongRandomAccessIterator inc() {
+            ++index;
+            return this;
+        }
+
+        @Override
+        public LongRandomAccessIterator dec() {
+            --index;
+            return this;
+        }
+
+        @Override
+        public void advance(long n) {
+            index = index + n;
+        }
+
+        @Override
+        public LongRandomAccessIterator add(long n) {
+            return new OLVIterator(index + n);
+        }
+
+        @Override
+        public long distance(RandomAccessIterator<Long> last) {
+            return ((OLVIterator) last).index - index;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }else{
+                OLVIterator it = (OLVIterator) obj;
+                return index == it.index && owner() == it.owner();
+            }
+        }
+
+        private OffHeapLongVector owner(){
+            return OffHeapLongVector.this;
+        }
+
+        @Override
+        public LongRandomAccessIterator clone() {
+            return new OLVIterator(index);
+        }
+    }
+}
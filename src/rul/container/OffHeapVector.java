@@ -0,0 +1,302 @@
+package rul.container;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Base of the vectors that keep fixed-width elements outside of the Java heap.
+ *
+ * Elements live in native memory blocks of chunkBytes bytes each, so neither the Java heap nor the int indexes of
+ * arrays and buffers limit the length: indexes are longs and the vector keeps adding blocks as it grows.
+ * A vector that fits in a single block grows geometrically like Vector , copying its block, larger vectors grow one
+ * block at a time and never copy.
+ *
+ * Native memory is only released by close() or, if the vector is never closed, whenever the garbage collector
+ * gets to the blocks. Any access after close() throws.
+ *
+ * size() saturates at Integer.MAX_VALUE, longSize() returns the exact length.
+ */
+public abstract class OffHeapVector<T> extends Container<T> implements AutoCloseable {
+
+    /** The default block size, 1GiB. */
+    public static final int DEFAULT_CHUNK_BYTES = 1 << 30;
+
+    private static final ByteBuffer[] CLOSED = new ByteBuffer[0];
+
+    protected final int elementBytes;
+    // Elements per block is 1 << chunkShift.
+    protected final int chunkShift;
+    protected final long chunkMask;
+
+    protected ByteBuffer[] chunks;
+    protected long capacity;
+    protected long length = 0;
+
+    /**
+     * @param capacity The initial capacity in elements.
+     * @param elementBytes The width of an element, a power of two.
+     * @param chunkBytes The size of every native block, a power of two no smaller than elementBytes.
+     * @throws IllegalArgumentException If the widths aren't powers of two or capacity is negative.
+     */
+    protected OffHeapVector(long capacity, int elementBytes, int chunkBytes){
+        if(Integer.bitCount(elementBytes) != 1 || Integer.bitCount(chunkBytes) != 1 || chunkBytes < elementBytes
+                || capacity < 0){
+            throw new IllegalArgumentException();
+        }
+        this.elementBytes = elementBytes;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkBytes / elementBytes);
+        this.chunkMask = (1L << chunkShift) - 1;
+        this.chunks = new ByteBuffer[0];
+        this.capacity = 0;
+        reserve(capacity);
+    }
+
+    // Capacity
+
+    /**
+     * @return The number of elements, or Integer.MAX_VALUE if there are more.
+     * @complexity O(1).
+     */
+    @Override
+    public int size(){
+        return (int) Math.min(length, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return The number of elements.
+     * @complexity O(1).
+     */
+    public long longSize(){
+        return length;
+    }
+
+    @Override
+    public boolean isEmpty(){
+        return length == 0;
+    }
+
+    /**
+     * @return The number of elements the vector can hold before allocating more native memory.
+     * @complexity O(1).
+     */
+    public long capacity(){
+        return capacity;
+    }
+
+    /**
+     * Requests that the vector capacity be at least enough to contain n elements.
+     *
+     * This function has no effect on the vector size and cannot alter its elements.
+     * @param n Requested capacity.
+     * @throws IllegalStateException If the vector has been closed.
+     * @complexity O(size) if the vector fits in a single block and it has to be copied, O(blocks) otherwise.
+     */
+    public void reserve(long n){
+        ensureOpen();
+        if(n <= capacity){
+            return;
+        }
+
+        long perChunk = 1L << chunkShift;
+        if(n <= perChunk){
+            resizeFirstChunk(n);
+        }else{
+            if(capacity < perChunk){
+                resizeFirstChunk(perChunk);
+            }
+            int count = Math.toIntExact((n + chunkMask) >>> chunkShift);
+            int old = chunks.length;
+            chunks = Arrays.copyOf(chunks, count);
+            for(int i = old; i < count; i = i + 1){
+                chunks[i] = allocate(i, (int) (perChunk * elementBytes));
+            }
+            capacity = (long) count << chunkShift;
+        }
+    }
+
+    /**
+     * Requests the container to reduce its capacity to fit its size, releasing the unused native memory.
+     * @throws IllegalStateException If the vector has been closed.
+     * @complexity O(size) if the vector fits in a single block, O(blocks) otherwise.
+     */
+    public void shrinkToFit(){
+        ensureOpen();
+        if(capacity == length){
+            return;
+        }
+
+        long perChunk = 1L << chunkShift;
+        if(length <= perChunk){
+            if(chunks.length > 1){
+                for(int i = 1; i < chunks.length; i = i + 1){
+                    release(chunks[i]);
+                }
+                chunks = Arrays.copyOf(chunks, 1);
+                capacity = perChunk;
+            }
+            resizeFirstChunk(length);
+        }else{
+            int count = Math.toIntExact((length + chunkMask) >>> chunkShift);
+            for(int i = count; i < chunks.length; i = i + 1){
+                release(chunks[i]);
+            }
+            chunks = Arrays.copyOf(chunks, count);
+            capacity = (long) count << chunkShift;
+        }
+    }
+
+    /**
+     * Removes all elements, leaving the capacity untouched.
+     * @complexity O(1).
+     */
+    public void clear(){
+        length = 0;
+    }
+
+    /**
+     * Releases the native memory right away. The vector is empty and unusable afterwards, closing it again does
+     * nothing.
+     * @iterators All iterators are invalidated.
+     */
+    @Override
+    public void close(){
+        if(chunks == CLOSED){
+            return;
+        }
+        for(ByteBuffer chunk : chunks){
+            release(chunk);
+        }
+        chunks = CLOSED;
+        capacity = length = 0;
+    }
+
+    /**
+     * @return Whether close() has been called.
+     */
+    public boolean isClosed(){
+        return chunks == CLOSED;
+    }
+
+    /**
+     * @return A spliterator reporting the exact size, splitting in batches.
+     * @complexity O(1).
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), length, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    // Element addressing , subclasses read and write through these.
+
+    protected final ByteBuffer chunk(long index){
+        return chunks[(int) (index >>> chunkShift)];
+    }
+
+    protected final int offset(long index){
+        return (int) (index & chunkMask) * elementBytes;
+    }
+
+    // Makes room for one more element at the back and returns its index.
+    protected final long append(){
+        if(length == capacity){
+            ensureOpen();
+            long perChunk = 1L << chunkShift;
+            reserve(capacity < perChunk ? Math.min(Math.max(capacity * 2, 1), perChunk) : capacity + perChunk);
+        }
+        return length++;
+    }
+
+    protected final void checkIndex(long index){
+        if(index < 0 || index >= length){
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    protected final void ensureOpen(){
+        if(chunks == CLOSED){
+            throw new IllegalStateException("Vector has been closed");
+        }
+    }
+
+    // Native memory , overridable so that other kinds of storage can reuse the bookkeeping.
+
+    /**
+     * @param chunk The index of the block.
+     * @param bytes The size of the block.
+     * @return A new block.
+     */
+    protected ByteBuffer allocate(int chunk, int bytes){
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Replaces the first block , used while the vector fits in a single one.
+     * @param old The current first block.
+     * @param bytes The size of the new block.
+     * @param keep The number of leading bytes to preserve.
+     * @return The new first block.
+     */
+    protected ByteBuffer resize(ByteBuffer old, int bytes, int keep){
+        ByteBuffer chunk = allocate(0, bytes);
+        chunk.put(0, old, 0, keep);
+        release(old);
+        return chunk;
+    }
+
+    protected void release(ByteBuffer chunk){
+        DirectMemory.free(chunk);
+    }
+
+    // Replaces the only block with one of n elements , keeping the first min(length,n) elements.
+    private void resizeFirstChunk(long n){
+        if(chunks.length > 0){
+            chunks[0] = resize(chunks[0], (int) (n * elementBytes), (int) (Math.min(length, n) * elementBytes));
+        }else{
+            chunks = new ByteBuffer[]{allocate(0, (int) (n * elementBytes))};
+        }
+        capacity = n;
+    }
+
+    /**
+     * Frees direct buffers without waiting for the garbage collector, through sun.misc.Unsafe.invokeCleaner.
+     * Unsafe is looked up reflectively and invokeCleaner bound once , so no internal API is named in source.
+     * Without access to it, buffers are left to the collector.
+     */
+    static final class DirectMemory {
+        private static final MethodHandle INVOKE_CLEANER;
+
+        static {
+            MethodHandle invokeCleaner;
+            try{
+                Class<?> type = Class.forName("sun.misc.Unsafe");
+                Field field = type.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                invokeCleaner = MethodHandles.lookup()
+                        .findVirtual(type, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                        .bindTo(field.get(null));
+            }catch(ReflectiveOperationException | RuntimeException e){
+                invokeCleaner = null;
+            }
+            INVOKE_CLEANER = invokeCleaner;
+        }
+
+        static void free(ByteBuffer buffer){
+            if(INVOKE_CLEANER != null && buffer.isDirect()){
+                try{
+                    INVOKE_CLEANER.invokeExact(buffer);
+                }catch(RuntimeException | Error e){
+                    throw e;
+                }catch(Throwable e){
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package rul.container;
+
+import rul.iterator.RandomAccessIterator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * An immutable vector , every modifier returns a new vector and leaves this one untouched.
+ *
+ * Elements are kept in a tree of 32-wide arrays, with the last up to 32 elements held apart in a tail array. A
+ * modifier copies only the tail or the path from the root to the changed leaf, at most log32(n) arrays of 32
+ * references, and shares everything else with the vector it was made from. Appends mostly copy the tail alone.
+ *
+ * Since a vector never changes, holding one is holding an O(1) snapshot: readers on any number of threads can
+ * iterate it with no locks while a writer publishes newer versions, e.g. through a volatile field or an
+ * AtomicReference. All fields are final, so a vector is safe to read even if it's shared through a data race.
+ *
+ * Iterators are read only , their set throws UnsupportedOperationException.
+ */
+public final class PersistentVector<T> extends Container<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    // Container.size isn't final , count is the size readers rely on.
+    private final int count;
+    // The level of the root , BITS for a root whose children are leaves.
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int count, int shift, Object[] root, Object[] tail){
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+        this.size = count;
+    }
+
+    /**
+     * @return The empty vector.
+     * @complexity O(1).
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty(){
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Creates a vector holding the elements of c, in the order of c's iterator.
+     *
+     * The leaves are cut straight out of a single c.toArray() and the tree is built bottom up, so nothing is copied
+     * more than twice.
+     * @param c The elements.
+     * @return The new vector.
+     * @complexity O(n), where n is the size of c.
+     */
+    public static <T> PersistentVector<T> copyOf(Collection<? extends T> c){
+        Object[] items = c.toArray();
+        return build(items, items.length);
+    }
+
+    /**
+     * Creates a vector holding the elements of vector , a snapshot of it at the time of the call.
+     * @param vector The elements.
+     * @return The new vector.
+     * @complexity O(n), where n is the size of vector.
+     */
+    public static <T> PersistentVector<T> copyOf(Vector<? extends T> vector){
+        Object[] items = vector.toArray();
+        return build(items, items.length);
+    }
+
+    private static <T> PersistentVector<T> build(Object[] items, int n){
+        if(n == 0){
+            return empty();
+        }
+        int tailOffset = tailOffset(n);
+        Object[] tail = Arrays.copyOfRange(items, tailOffset, n);
+        if(tailOffset == 0){
+            return new PersistentVector<>(n, BITS, EMPTY_NODE, tail);
+        }
+
+        Object[] nodes = new Object[tailOffset >>> BITS];
+        for(int i = 0; i < nodes.length; i = i + 1){
+            nodes[i] = Arrays.copyOfRange(items, i << BITS, (i + 1) << BITS);
+        }
+
+        int shift = BITS;
+        while(nodes.length > WIDTH){
+            Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+            for(int i = 0; i < parents.length; i = i + 1){
+                Object[] parent = new Object[WIDTH];
+                System.arraycopy(nodes, i << BITS, parent, 0, Math.min(WIDTH, nodes.length - (i << BITS)));
+                parents[i] = parent;
+            }
+            nodes = parents;
+            shift = shift + BITS;
+        }
+        return new PersistentVector<>(n, shift, Arrays.copyOf(nodes, WIDTH), tail);
+    }
+
+    // Iterators
+
+    /**
+     * @return Read only iterator pointing to the first element. Equal to end() if the vector is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public RandomAccessIterator<T> begin(){
+        return new PVIterator(0);
+    }
+
+    /**
+     * @return Read only iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public RandomAccessIterator<T> end(){
+        return new PVIterator(count);
+    }
+
+    /**
+     * Performs action on every element from front to back , a leaf at a time.
+     * @param action The action to be performed.
+     * @complexity O(n).
+     */
+    @Override
+    public void forEach(Consumer<? super T> action){
+        Objects.requireNonNull(action);
+        for(int base = 0; base < count; base = base + WIDTH){
+            Object[] leaf = leafFor(base);
+            for(int i = 0, n = Math.min(WIDTH, count - base); i < n; i = i + 1){
+                @SuppressWarnings("unchecked") var obj = (T) leaf[i];
+                action.accept(obj);
+            }
+        }
+    }
+
+    //Capacity
+
+    @Override
+    public int size(){
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty(){
+        return count == 0;
+    }
+
+    //Element Access
+
+    /**
+     * @param index The position of the element.
+     * @return The element at index.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(log32 n).
+     */
+    public T get(int index){
+        checkIndex(index);
+        @SuppressWarnings("unchecked") var obj = (T) leafFor(index)[index & MASK];
+        return obj;
+    }
+
+    /**
+     * @return The first element.
+     * @throws NoSuchElementException If the vector is empty.
+     * @complexity O(log32 n).
+     */
+    public T getFront(){
+        if(count == 0){
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * @return The last element.
+     * @throws NoSuchElementException If the vector is empty.
+     * @complexity O(1).
+     */
+    public T getBack(){
+        if(count == 0){
+            throw new NoSuchElementException();
+        }
+        @SuppressWarnings("unchecked") var obj = (T) tail[tail.length - 1];
+        return obj;
+    }
+
+    //Modifiers
+
+    /**
+     * @param index The position of the element.
+     * @param data The new value.
+     * @return A vector equal to this one except for data at index.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(log32 n).
+     */
+    public PersistentVector<T> set(int index, T data){
+        checkIndex(index);
+        if(index >= tailOffset(count)){
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = data;
+            return new PersistentVector<>(count, shift, root, newTail);
+        }
+        return new PersistentVector<>(count, shift, setPath(shift, root, index, data), tail);
+    }
+
+    /**
+     * @param data The new element.
+     * @return A vector equal to this one with data appended at the back.
+     * @complexity O(1) while the tail has room, O(log32 n) every 32 appends.
+     */
+    public PersistentVector<T> pushBack(T data){
+        if(count == Integer.MAX_VALUE){
+            throw new OutOfMemoryError("Required vector size exceeds the maximum int");
+        }
+        if(count - tailOffset(count) < WIDTH){
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = data;
+            return new PersistentVector<>(count + 1, shift, root, newTail);
+        }
+
+        // The tail is full , it becomes a leaf of the tree.
+        Object[] newRoot;
+        int newShift = shift;
+        if((count >>> BITS) > (1 << shift)){
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift = shift + BITS;
+        }else{
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(count + 1, newShift, newRoot, new Object[]{data});
+    }
+
+    /**
+     * @return A vector equal to this one without its last element.
+     * @throws NoSuchElementException If the vector is empty.
+     * @complexity O(1) while the tail has elements left, O(log32 n) every 32 pops.
+     */
+    public PersistentVector<T> popBack(){
+        if(count == 0){
+            throw new NoSuchElementException();
+        }
+        if(count == 1){
+            return empty();
+        }
+        if(tail.length > 1){
+            return new PersistentVector<>(count - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        // The tail empties , the last leaf of the tree takes its place.
+        Object[] newTail = leafFor(count - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if(newRoot == null){
+            newRoot = EMPTY_NODE;
+        }
+        if(shift > BITS && newRoot[1] == null){
+            newRoot = (Object[]) newRoot[0];
+            newShift = shift - BITS;
+        }
+        return new PersistentVector<>(count - 1, newShift, newRoot, newTail);
+    }
+
+    // Index of the first element of the tail , always a multiple of WIDTH.
+    private static int tailOffset(int count){
+        return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+    }
+
+    // The leaf , or the tail, holding index.
+    private Object[] leafFor(int index){
+        if(index >= tailOffset(count)){
+            return tail;
+        }
+        Object[] node = root;
+        for(int level = shift; level > 0; level = level - BITS){
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static Object[] setPath(int level, Object[] node, int index, Object data){
+        Object[] copy = node.clone();
+        if(level == 0){
+            copy[index & MASK] = data;
+        }else{
+            int child = (index >>> level) & MASK;
+            copy[child] = setPath(level - BITS, (Object[]) node[child], index, data);
+        }
+        return copy;
+    }
+
+    // Copies the path to the last leaf , adding leaf after it.
+    private Object[] pushTail(int level, Object[] parent, Object[] leaf){
+        int child = ((count - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        if(level == BITS){
+            copy[child] = leaf;
+        }else{
+            Object[] node = (Object[]) parent[child];
+            copy[child] = node != null ? pushTail(level - BITS, node, leaf) : newPath(level - BITS, leaf);
+        }
+        return copy;
+    }
+
+    // A chain of single child nodes from level down to leaf.
+    private static Object[] newPath(int level, Object[] leaf){
+        if(level == 0){
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    // Copies the path to the last leaf without it , null if nothing is left under node.
+    private Object[] popTail(int level, Object[] node){
+        int child = ((count - 2) >>> level) & MASK;
+        if(level > BITS){
+            Object[] newChild = popTail(level - BITS, (Object[]) node[child]);
+            if(newChild == null && child == 0){
+                return null;
+            }
+            Object[] copy = node.clone();
+            copy[child] = newChild;
+            return copy;
+        }else if(child == 0){
+            return null;
+        }else{
+            Object[] copy = node.clone();
+            copy[child] = null;
+            return copy;
+        }
+    }
+
+    private void checkIndex(int index){
+        if(index < 0 || index >= count){
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    // Caches the leaf it's in , so walking the vector descends the tree once every 32 elements.
+    private class PVIterator implements RandomAccessIterator<T> {
+
+        private int index;
+        private Object[] leaf;
+        // Index of leaf[0].
+        private int base = -WIDTH;
+
+        private PVIterator(int index){
+            this.index = index;
+        }
+
+        @Override
+        public T get() {
+            if(index - base >= WIDTH || index < base){
+                checkIndex(index);
+                base = index & ~MASK;
+                leaf = leafFor(index);
+            }
+            @SuppressWarnings("unchecked") var obj = (T) leaf[index - base];
+            return obj;
+        }
+
+        @Override
+        public void set(T t) {
+            throw new UnsupportedOperationException("PersistentVector is immutable");
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        public T next() {
+            T t = get();
+            index = index + 1;
+            return t;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public T previous() {
+            return dec().get();
+        }
+
+        @Override
+        public RandomAccessIterator<T> inc() {
+            ++index;
+            return this;
+        }
+
+        @Override
+        public RandomAccessIterator<T> dec() {
+            --index;
+            return this;
+        }
+
+        @Override
+        public void advance(long n) {
+            index = Math.toIntExact(index + n);
+        }
+
+        @Override
+        public RandomAccessIterator<T> add(long n) {
+            return new PVIterator(Math.toIntExact(index + n));
+        }
+
+        @Override
+        public long distance(RandomAccessIterator<T> last) {
+            return ((PVIterator) last).index - index;
+        }
+
+        @Override
+        public RandomAccessIterator<T> clone() {
+            return new PVIterator(index);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }else{
+                @SuppressWarnings("unchecked") PVIterator it = (PVIterator) obj;
+                return index == it.index && owner() == it.owner();
+            }
+        }
+
+        private PersistentVector<T> owner(){
+            return PersistentVector.this;
+        }
+    }
+}
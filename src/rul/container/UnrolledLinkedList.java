@@ -0,0 +1,489 @@
+package rul.container;
+
+import rul.iterator.BidirectionalIterator;
+import rul.iterator.PositionalIterator;
+import rul.iterator.ReverseBidirectionalIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A doubly linked list of small arrays.
+ *
+ * Every node holds up to nodeCapacity elements next to each other, so a sequential scan chases one pointer per
+ * node rather than one per element. Insertion in a full node splits it in two halves, erasure merges or rebalances
+ * a node with its successor once it drops below half full. Both touch at most two nodes , keeping them O(1) for a
+ * fixed node capacity.
+ *
+ * Unlike DoublyLinkedList, elements move around inside their nodes , so a modification invalidates the iterators
+ * pointing into the nodes it touched. Use the iterator returned by the modifier to keep going.
+ */
+@SuppressWarnings("unused")
+public class UnrolledLinkedList<T> extends Container<T> {
+
+    private final int nodeCapacity;
+
+    private Node head;
+    private Node tail;
+
+    public UnrolledLinkedList(){
+        this(64);
+    }
+
+    /**
+     * @param nodeCapacity The number of elements every node can hold.
+     * @throws IllegalArgumentException If nodeCapacity is less than 2.
+     */
+    public UnrolledLinkedList(int nodeCapacity){
+        if(nodeCapacity < 2){
+            throw new IllegalArgumentException();
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    // Iterators
+
+    /**
+     * @return Iterator pointing to the first element. Or an invalid iterator if the list is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public BidirectionalIterator<T> begin(){
+        return new ULLIterator(head, 0);
+    }
+
+    /**
+     * @return Iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public BidirectionalIterator<T> end(){
+        return new ULLIterator(null, 0);
+    }
+
+    /**
+     * @return Reverse iterator pointing to the first element. Or an invalid iterator if the list is empty.
+     * @complexity O(1).
+     */
+    public BidirectionalIterator<T> reverseEnd(){
+        return new ReverseBidirectionalIterator<>(new ULLIterator(null, 0));
+    }
+
+    /**
+     * @return Reverse iterator pointing to the last element. Or an invalid iterator if the list is empty.
+     * @complexity O(1).
+     */
+    public BidirectionalIterator<T> reverseBegin(){
+        return new ReverseBidirectionalIterator<>(new ULLIterator(tail, tail == null ? 0 : tail.count - 1));
+    }
+
+    /**
+     * Performs action on every element, walking the node arrays directly.
+     * @param action The action to be performed.
+     * @complexity O(n).
+     */
+    @Override
+    public void forEach(Consumer<? super T> action){
+        Objects.requireNonNull(action);
+        for(Node node = head; node != null; node = node.next){
+            Object[] items = node.items;
+            for(int i = 0, count = node.count; i < count; i = i + 1){
+                @SuppressWarnings("unchecked") T t = (T) items[i];
+                action.accept(t);
+            }
+        }
+    }
+
+    // Element Access
+
+    /**
+     * @return The first element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     * @complexity O(1).
+     */
+    public T getFront(){
+        if(head == null){
+            throw new NoSuchElementException();
+        }
+        @SuppressWarnings("unchecked") T t = (T) head.items[0];
+        return t;
+    }
+
+    /**
+     * @return The last element of the list.
+     * @throws NoSuchElementException if the list is empty.
+     * @complexity O(1).
+     */
+    public T getBack(){
+        if(tail == null){
+            throw new NoSuchElementException();
+        }
+        @SuppressWarnings("unchecked") T t = (T) tail.items[tail.count - 1];
+        return t;
+    }
+
+    // Modifiers
+
+    /**
+     * Inserts a new element before the specified iterator. Inserting before end() appends to the list.
+     * @param position The specified iterator.
+     * @param t The new element.
+     * @return An iterator pointing to the new element.
+     * @throws IllegalArgumentException If the supplied iterator isn't a ULLIterator.
+     * @iterators Iterators pointing into the node of position are invalidated.
+     * @complexity O(1) for a fixed node capacity.
+     */
+    public BidirectionalIterator<T> insertBefore(final BidirectionalIterator<T> position, T t){
+        ULLIterator it = toIterator(position);
+        Node node = it.node;
+        int index = it.index;
+
+        if(node == null){
+            node = tail;
+            if(node == null || node.count == nodeCapacity){
+                node = linkAfter(tail);
+            }
+            index = node.count;
+        }else if(node.count == nodeCapacity){
+            Node upper = split(node);
+            if(index > node.count){
+                index = index - node.count;
+                node = upper;
+            }
+        }
+
+        System.arraycopy(node.items, index, node.items, index + 1, node.count - index);
+        node.items[index] = t;
+        node.count = node.count + 1;
+        size = size + 1;
+        return new ULLIterator(node, index);
+    }
+
+    /**
+     * Inserts a new element after the specified iterator.
+     * @param position The specified iterator.
+     * @param t The new element.
+     * @return An iterator pointing to the new element.
+     * @throws IllegalArgumentException If the supplied iterator isn't a ULLIterator.
+     * @throws NoSuchElementException If position is end().
+     * @iterators Iterators pointing into the node of position are invalidated.
+     * @complexity O(1) for a fixed node capacity.
+     */
+    public BidirectionalIterator<T> insertAfter(final BidirectionalIterator<T> position, T t){
+        ULLIterator it = toIterator(position);
+        if(it.node == null){
+            throw new NoSuchElementException();
+        }
+
+        // Inserting right at the end of a node keeps its successor untouched.
+        return insertBefore(new ULLIterator(it.node, it.index + 1), t);
+    }
+
+    /**
+     * Erases the element pointed by the position iterator.
+     * @param position The element to be deleted.
+     * @return An iterator pointing to the element after the one specified by position.
+     * If position was the last element, then end() is returned.
+     * @throws IllegalArgumentException If the supplied iterator isn't a ULLIterator.
+     * @throws NoSuchElementException If position is end().
+     * @iterators Iterators pointing into the node of position or its successor are invalidated.
+     * @complexity O(1) for a fixed node capacity.
+     */
+    public BidirectionalIterator<T> erase(BidirectionalIterator<T> position){
+        ULLIterator it = toIterator(position);
+        Node node = it.node;
+        int index = it.index;
+        if(node == null){
+            throw new NoSuchElementException();
+        }
+
+        System.arraycopy(node.items, index + 1, node.items, index, node.count - index - 1);
+        node.count = node.count - 1;
+        node.items[node.count] = null;
+        size = size - 1;
+
+        if(node.count == 0){
+            Node next = node.next;
+            unlink(node);
+            return new ULLIterator(next, 0);
+        }
+
+        if(node.count < nodeCapacity / 2 && node.next != null){
+            rebalance(node);
+        }
+
+        if(index < node.count){
+            return new ULLIterator(node, index);
+        }else{
+            return new ULLIterator(node.next, 0);
+        }
+    }
+
+    /**
+     * Erases elements in the range [first,last).
+     * @param first First interval.
+     * @param last Second interval.
+     * @return The element after the erased range.
+     * @iterators All iterators except last are invalidated, last is invalidated as well unless it is end().
+     * @complexity n , where n is the number of elements between [first,last).
+     */
+    public BidirectionalIterator<T> erase(BidirectionalIterator<T> first, BidirectionalIterator<T> last){
+        ULLIterator it = toIterator(first);
+        ULLIterator end = toIterator(last);
+
+        // Erasing shifts last around, so count the range up front instead.
+        long n = 0;
+        for(ULLIterator i = new ULLIterator(it.node, it.index); !i.equals(end); i.inc()){
+            n = n + 1;
+        }
+
+        BidirectionalIterator<T> ret = it;
+        for(long i = 0; i < n; i = i + 1){
+            ret = erase(ret);
+        }
+        return ret;
+    }
+
+    /**
+     * Insert element on the front of the list.
+     * @complexity O(1).
+     * @param obj The obj to be inserted.
+     */
+    public void pushFront(T obj){
+        insertBefore(begin(), obj);
+    }
+
+    /**
+     * Remove element from the front.
+     * @complexity O(1).
+     * @throws NoSuchElementException if the list is empty.
+     */
+    public void popFront(){
+        if(size > 0){
+            erase(new ULLIterator(head, 0));
+        }else{
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Insert element on the back of the list.
+     * @complexity O(1).
+     * @param obj The obj to be inserted.
+     */
+    public void pushBack(T obj){
+        Node node = tail;
+        if(node == null || node.count == nodeCapacity){
+            node = linkAfter(tail);
+        }
+        node.items[node.count++] = obj;
+        size = size + 1;
+    }
+
+    /**
+     * Remove element from the back.
+     * @complexity O(1).
+     * @throws NoSuchElementException if the list is empty.
+     */
+    public void popBack(){
+        if(size > 0){
+            erase(new ULLIterator(tail, tail.count - 1));
+        }else{
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Removes all of the list elements , leaving the size 0.
+     *
+     * @iterators All iterators are invalidated.
+     * @complexity O(1), Left for garbage collection.
+     */
+    public void clear(){
+        head = tail = null;
+        size = 0;
+    }
+
+    private Node linkAfter(Node prev){
+        Node node = new Node(nodeCapacity);
+        node.prev = prev;
+        if(prev != null){
+            node.next = prev.next;
+            prev.next = node;
+        }else{
+            node.next = head;
+            head = node;
+        }
+
+        if(node.next != null){
+            node.next.prev = node;
+        }else{
+            tail = node;
+        }
+        return node;
+    }
+
+    private void unlink(Node node){
+        if(node.prev != null){
+            node.prev.next = node.next;
+        }else{
+            head = node.next;
+        }
+
+        if(node.next != null){
+            node.next.prev = node.prev;
+        }else{
+            tail = node.prev;
+        }
+        node.prev = node.next = null;
+    }
+
+    // Moves the upper half of a full node to a new node right after it.
+    private Node split(Node node){
+        Node upper = linkAfter(node);
+        int keep = node.count / 2;
+        int move = node.count - keep;
+
+        System.arraycopy(node.items, keep, upper.items, 0, move);
+        Arrays.fill(node.items, keep, node.count, null);
+        upper.count = move;
+        node.count = keep;
+        return upper;
+    }
+
+    // Refills a node that dropped below half full, either by absorbing its successor or by borrowing from it.
+    private void rebalance(Node node){
+        Node next = node.next;
+
+        if(node.count + next.count <= nodeCapacity){
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count = node.count + next.count;
+            unlink(next);
+        }else{
+            int move = (next.count - node.count) / 2;
+            System.arraycopy(next.items, 0, node.items, node.count, move);
+            System.arraycopy(next.items, move, next.items, 0, next.count - move);
+            Arrays.fill(next.items, next.count - move, next.count, null);
+            node.count = node.count + move;
+            next.count = next.count - move;
+        }
+    }
+
+    private ULLIterator toIterator(BidirectionalIterator<T> iterator){
+        if(iterator instanceof PositionalIterator){
+            Object position = ((PositionalIterator<T>) iterator).position();
+            if(position != null && position.getClass() == ULLIterator.class){
+                @SuppressWarnings("unchecked") var it = (ULLIterator) position;
+                return it;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    // An element is a node and an index into it , so the iterator itself serves as its position.
+    private class ULLIterator implements PositionalIterator<T> {
+
+        private Node node;
+        private int index;
+
+        private ULLIterator(Node node, int index){
+            this.node = node;
+            this.index = index;
+        }
+
+        @Override
+        public Object position() {
+            return this;
+        }
+
+        @Override
+        public T get() {
+            @SuppressWarnings("unchecked") T t = (T) node.items[index];
+            return t;
+        }
+
+        @Override
+        public void set(T t) {
+            node.items[index] = t;
+        }
+
+        @Override
+        public boolean hasPrevious(){
+            if(node == null){
+                return tail != null;
+            }
+            return index > 0 || node.prev != null;
+        }
+
+        @Override
+        public BidirectionalIterator<T> dec(){
+            if(node == null){
+                node = tail;
+                index = tail == null ? 0 : tail.count - 1;
+            }else if(index > 0){
+                index = index - 1;
+            }else{
+                node = node.prev;
+                index = node == null ? 0 : node.count - 1;
+            }
+            return this;
+        }
+
+        @Override
+        public T previous() {
+            return dec().get();
+        }
+
+        @Override
+        public boolean hasNext(){
+            return node != null;
+        }
+
+        @Override
+        public BidirectionalIterator<T> inc(){
+            if(node == null){
+                node = head;
+                index = 0;
+            }else if(++index == node.count){
+                node = node.next;
+                index = 0;
+            }
+            return this;
+        }
+
+        @Override
+        public T next() {
+            @SuppressWarnings("unchecked") T data = (T) node.items[index];
+            inc();
+            return data;
+        }
+
+        @Override
+        public boolean equals(Object s) {
+            if(getClass() != s.getClass()){
+                return false;
+            }else {
+                @SuppressWarnings("unchecked") ULLIterator obj = (ULLIterator) s;
+                return node == obj.node && index == obj.index;
+            }
+        }
+
+        @Override
+        public BidirectionalIterator<T> clone() {
+            return new ULLIterator(node, index);
+        }
+    }
+
+    private static class Node {
+        private final Object[] items;
+        private int count;
+        private Node prev;
+        private Node next;
+
+        private Node(int capacity){
+            items = new Object[capacity];
+        }
+    }
+}
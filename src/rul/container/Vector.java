@@ -1,45 +1,181 @@
 package rul.container;
 
+import rul.algorithm.Sort;
+import rul.iterator.Cursor;
 import rul.iterator.ForwardIterator;
 import rul.iterator.RandomAccessIterator;
 
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 public class Vector<T> extends Container<T> {
+    // Some VMs reserve header words in arrays, going past this may throw OutOfMemoryError even with enough heap.
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    // The capacity of the first allocation of a vector built empty.
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final Object[] EMPTY = {};
+
     private Object[] arr;
-    private int capacity;
+    private final GrowthPolicy policy;
 
+    /**
+     * Creates an empty vector that allocates nothing until the first insertion , which reserves room for 8 elements.
+     */
     public Vector(){
-        this(1);
+        this(GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Creates an empty vector that allocates nothing until the first insertion.
+     * @param policy How the vector grows and shrinks.
+     */
+    public Vector(GrowthPolicy policy){
+        this.policy = Objects.requireNonNull(policy);
+        arr = EMPTY;
     }
 
     public Vector(int capacity){
-        this.capacity = capacity;
-        arr = new Object[capacity];
+        this(capacity, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * @param capacity The initial capacity. A capacity of 0 allocates nothing, like Vector(GrowthPolicy).
+     * @param policy How the vector grows and shrinks.
+     */
+    public Vector(int capacity, GrowthPolicy policy){
+        this.policy = Objects.requireNonNull(policy);
+        arr = capacity == 0 ? EMPTY : new Object[capacity];
     }
 
+    /**
+     * Creates a vector holding the elements in the range [first,last).
+     *
+     * Random access ranges are measured up front so the storage is allocated once, ranges of another Vector are
+     * then copied in bulk.
+     * @param first The first interval.
+     * @param last The second interval.
+     * @complexity O(n), where n is the number of elements between first and last.
+     */
     public Vector(ForwardIterator<T> first, ForwardIterator<T> last){
-        this();
+        this(initialCapacity(first, last));
+
+        if(first.getClass() == VIterator.class && last.getClass() == VIterator.class){
+            VIterator from = (VIterator) first;
+            VIterator to = (VIterator) last;
+            if(from.owner() == to.owner()){
+                int n = to.index - from.index;
+                System.arraycopy(from.owner().arr, from.index, arr, 0, n);
+                size = n;
+                return;
+            }
+        }
 
         for(var it = first.clone(); !it.equals(last); it.inc()){
-            //pushBack(it.get());
+            pushBack(it.get());
+        }
+    }
+
+    /**
+     * Creates a vector holding the elements of c, in the order of c's iterator.
+     *
+     * The elements are taken with a single c.toArray() call which the vector then keeps as its storage, so the
+     * vector is allocated at its final size and nothing is copied twice.
+     * @param c The elements.
+     * @complexity O(n), where n is the size of c.
+     */
+    public Vector(Collection<? extends T> c){
+        policy = GrowthPolicy.DOUBLING;
+        Object[] items = c.toArray();
+        if(items.length == 0){
+            arr = EMPTY;
+        }else{
+            arr = items.getClass() == Object[].class ? items : Arrays.copyOf(items, items.length, Object[].class);
+        }
+        size = arr.length;
+    }
+
+    private static <T> int initialCapacity(ForwardIterator<T> first, ForwardIterator<T> last){
+        if(first instanceof RandomAccessIterator && last instanceof RandomAccessIterator){
+            return Math.toIntExact(((RandomAccessIterator<T>) first).distance((RandomAccessIterator<T>) last));
         }
+        return 0;
+    }
+
+    // Iterators
+
+    /**
+     * @return Iterator pointing to the first element. Equal to end() if the vector is empty.
+     * @complexity O(1).
+     */
+    @Override
+    public RandomAccessIterator<T> begin() {
+        return new VIterator(0);
+    }
+
+    /**
+     * @return Iterator pointing past the last element.
+     * @complexity O(1).
+     */
+    @Override
+    public RandomAccessIterator<T> end() {
+        return new VIterator(size);
+    }
+
+    /**
+     * @return A reusable cursor pointing to the first element, see Cursor.
+     * @complexity O(1).
+     */
+    public Cursor<T> cursor(){
+        return new VIterator(0);
     }
 
+    /**
+     * Performs action on every element from front to back without allocating an iterator.
+     * @param action The action to be performed.
+     * @complexity O(n).
+     */
     @Override
-    Iterator<T> begin() {
-        return null;
+    public void forEach(Consumer<? super T> action){
+        Objects.requireNonNull(action);
+        Object[] a = arr;
+        for(int i = 0, n = size; i < n; i = i + 1){
+            @SuppressWarnings("unchecked") var obj = (T) a[i];
+            action.accept(obj);
+        }
+    }
+
+    /**
+     * Performs action on every element from back to front without allocating an iterator.
+     * @param action The action to be performed.
+     * @complexity O(n).
+     */
+    public void forEachReverse(Consumer<? super T> action){
+        Objects.requireNonNull(action);
+        Object[] a = arr;
+        for(int i = size - 1; i >= 0; i = i - 1){
+            @SuppressWarnings("unchecked") var obj = (T) a[i];
+            action.accept(obj);
+        }
     }
 
+    /**
+     * @return A spliterator over [0,size) that splits by halving its index range.
+     * @complexity O(1).
+     */
     @Override
-    Iterator<T> end() {
-        return null;
+    public Spliterator<T> spliterator() {
+        return new VSpliterator(0, size);
     }
 
     //Capacity
 
     public int capacity(){
-        return capacity;
+        return arr.length;
     }
 
     /**
@@ -55,7 +191,7 @@ public class Vector<T> extends Container<T> {
      * @complexity If a reallocation happens O(n), constant otherwise.
      */
     public void reserve(int n){
-        if(n > this.capacity){
+        if(n > arr.length){
             reallocate(n);
         }
     }
@@ -67,66 +203,333 @@ public class Vector<T> extends Container<T> {
      * @complexity If a reallocation happens O(n), constant otherwise.
      */
     public void shrinkToFit(){
-        if(capacity > size){
+        if(arr.length > size){
             reallocate(size);
         }
     }
 
-    public void reallocate(int capacity){
+    private void reallocate(int capacity){
         Object[] newArr = new Object[capacity];
-        System.arraycopy(arr, 0, newArr, 0, arr.length);
+        System.arraycopy(arr, 0, newArr, 0, size);
         arr = newArr;
+        if(ContainerMetrics.ENABLED){
+            ContainerMetrics.VECTOR.reallocated(size, ContainerMetrics.REFERENCE_BYTES, capacity);
+        }
+    }
+
+    // Asks the policy for the new capacity , by default doubling so that a sequence of pushBacks costs amortized O(1)
+    // each.
+    private void grow(int minCapacity){
+        if(minCapacity < 0 || minCapacity > MAX_CAPACITY){
+            throw new OutOfMemoryError("Required vector capacity exceeds the maximum array size");
+        }
+        if(arr == EMPTY){
+            minCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
+        }
+        long capacity = policy.grow(arr.length, minCapacity);
+        reallocate((int) Math.min(Math.max(capacity, minCapacity), MAX_CAPACITY));
+    }
+
+    // Gives memory back if the policy says so , called after removals.
+    private void shrink(){
+        long capacity = policy.shrink(arr.length, size);
+        if(capacity < arr.length){
+            reallocate((int) Math.max(capacity, size));
+        }
     }
 
     //Element Access
 
+    /**
+     * @param index The position of the element.
+     * @return The element at index.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
     public T get(int index){
+        checkIndex(index);
         @SuppressWarnings("unchecked") var obj = (T) arr[index];
         return obj;
     }
 
+    /**
+     * Replaces the element at index.
+     * @param index The position of the element.
+     * @param data The new value.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @complexity O(1).
+     */
     public void set(int index, T data){
+        checkIndex(index);
         arr[index] = data;
     }
 
     //Modifiers
 
-    void insert(int index, T data){
-        Object temp;
-        Object insert = data;
-        for(int i = index; i < size; i = i + 1){
-            temp = arr[i];
-            arr[i] = insert;
-            insert = temp;
+    /**
+     * Inserts data before the element at index, shifting everything after it one position to the right.
+     * @param index The position of the new element, size() appends.
+     * @param data The new element.
+     * @throws IndexOutOfBoundsException If index is outside [0,size].
+     * @complexity O(n), amortized O(1) at the back.
+     */
+    public void insert(int index, T data){
+        openGap(index, 1);
+        arr[index] = data;
+    }
+
+    /**
+     * Inserts the elements in the range [first,last) before the element at index.
+     *
+     * Ranges of a Vector, this one included, are copied in bulk. Other ranges are first gathered into a temporary
+     * array, measured up front if they're random access, so the vector grows and shifts its elements at most once and
+     * is left untouched if reading the range throws.
+     * @param index The position of the first new element, size() appends.
+     * @param first The first interval.
+     * @param last The second interval.
+     * @throws IndexOutOfBoundsException If index is outside [0,size].
+     * @complexity O(n + k), where k is the number of elements between first and last.
+     */
+    public void insert(int index, ForwardIterator<T> first, ForwardIterator<T> last){
+        if(first.getClass() == VIterator.class && last.getClass() == VIterator.class){
+            VIterator from = (VIterator) first;
+            VIterator to = (VIterator) last;
+            if(from.owner() == to.owner()){
+                Object[] src = from.owner().arr;
+                int k = to.index - from.index;
+                if(src == arr){
+                    // The gap would move the source range around, copy it out first.
+                    src = Arrays.copyOfRange(arr, from.index, to.index);
+                    insertArray(index, src, 0, k);
+                }else{
+                    insertArray(index, src, from.index, k);
+                }
+                return;
+            }
+        }
+
+        // Any other range may be a view of this vector , or may throw midway, so it's read out before the gap opens.
+        Vector<T> gathered = new Vector<>(first, last);
+        insertArray(index, gathered.arr, 0, gathered.size);
+    }
+
+    /**
+     * Inserts the elements of items before the element at index, keeping their order.
+     * @param index The position of the first new element, size() appends.
+     * @param items The new elements.
+     * @throws IndexOutOfBoundsException If index is outside [0,size].
+     * @complexity O(n + k), where k is the length of items.
+     */
+    public void insertAll(int index, T[] items){
+        insertArray(index, items, 0, items.length);
+    }
+
+    /**
+     * Inserts the elements of c before the element at index, in the order of c's iterator.
+     * @param index The position of the first new element, size() appends.
+     * @param c The new elements.
+     * @throws IndexOutOfBoundsException If index is outside [0,size].
+     * @complexity O(n + k), where k is the size of c.
+     */
+    public void insertAll(int index, Collection<? extends T> c){
+        Object[] items = c.toArray();
+        insertArray(index, items, 0, items.length);
+    }
+
+    /**
+     * Appends the elements of items at the back of the vector with a single arraycopy.
+     * @param items The new elements.
+     * @complexity Amortized O(k), where k is the length of items.
+     */
+    public void addAll(T[] items){
+        insertArray(size, items, 0, items.length);
+    }
+
+    /**
+     * Appends the elements of c at the back of the vector, in the order of c's iterator.
+     * @param c The new elements.
+     * @complexity Amortized O(k), where k is the size of c.
+     */
+    public void addAll(Collection<? extends T> c){
+        insertAll(size, c);
+    }
+
+    /**
+     * Erases the element at index, shifting everything after it one position to the left.
+     * @param index The position of the element.
+     * @throws IndexOutOfBoundsException If index is outside [0,size).
+     * @iterators Iterators to index and after it now point one element further.
+     * @complexity O(n - index).
+     */
+    public void erase(int index){
+        checkIndex(index);
+        erase(index, index + 1);
+    }
+
+    /**
+     * Erases the elements in [from,to).
+     * @param from The first position to be erased.
+     * @param to The position after the last one to be erased.
+     * @throws IndexOutOfBoundsException If the range isn't within [0,size] or from is greater than to.
+     * @iterators Iterators to from and after it now point to-from elements further.
+     * @complexity O(n - from), or O(n) if the growth policy shrinks the storage.
+     */
+    public void erase(int from, int to){
+        if(from < 0 || to > size || from > to){
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for size " + size);
         }
-        arr[size++] = insert;
+        System.arraycopy(arr, to, arr, from, size - to);
+        int newSize = size - (to - from);
+        Arrays.fill(arr, newSize, size, null);
+        size = newSize;
+        shrink();
     }
 
-    void pushBack(T data){
-        if(capacity == size){
-            reallocate(capacity * 2);
+    /**
+     * Appends data at the back of the vector.
+     * @param data The new element.
+     * @complexity Amortized O(1).
+     */
+    public void pushBack(T data){
+        if(size == arr.length){
+            grow(size + 1);
         }
         arr[size++] = data;
+        if(ContainerMetrics.ENABLED){
+            ContainerMetrics.VECTOR.sized(size);
+        }
+    }
+
+    /**
+     * Removes the last element.
+     * @throws NoSuchElementException If the vector is empty.
+     * @complexity Amortized O(1), O(n) if the growth policy shrinks the storage.
+     */
+    public void popBack(){
+        if(size == 0){
+            throw new NoSuchElementException();
+        }
+        size = size - 1;
+        arr[size] = null;
+        shrink();
+    }
+
+    // Operations
+
+    /**
+     * @return A new array holding the elements of the vector in order.
+     * @complexity O(n).
+     */
+    public Object[] toArray(){
+        return Arrays.copyOf(arr, size);
+    }
+
+    /**
+     * Copies the elements of the vector to an array, following java.util.Collection's contract: if a is large
+     * enough the elements are copied into it, followed by a null if there's room left, otherwise a new array of the
+     * same runtime type is allocated.
+     * @param a The array to copy into.
+     * @return a, or the new array.
+     * @throws ArrayStoreException If an element isn't an instance of a's component type.
+     * @complexity O(n).
+     */
+    @SuppressWarnings("unchecked")
+    public <A> A[] toArray(A[] a){
+        if(a.length < size){
+            return (A[]) Arrays.copyOf(arr, size, a.getClass());
+        }
+        System.arraycopy(arr, 0, a, 0, size);
+        if(a.length > size){
+            a[size] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Sorts the vector in place , equal elements keep their order.
+     * @param c The comparator deciding the order.
+     * @complexity O(n log n).
+     * @iterators All iterators remain valid, pointing to whatever element ends up at their position.
+     */
+    public void sort(Comparator<? super T> c){
+        @SuppressWarnings("unchecked") T[] a = (T[]) arr;
+        Sort.mergeSort(a, 0, size, c);
+    }
+
+    /**
+     * Sorts the vector in place using the common fork-join pool , equal elements keep their order.
+     * Small vectors are sorted sequentially.
+     * @param c The comparator deciding the order.
+     * @complexity O(n log n).
+     * @iterators All iterators remain valid, pointing to whatever element ends up at their position.
+     */
+    public void parallelSort(Comparator<? super T> c){
+        @SuppressWarnings("unchecked") T[] a = (T[]) arr;
+        Sort.parallelMergeSort(a, 0, size, c);
     }
 
+    private void insertArray(int index, Object[] src, int srcPos, int k){
+        openGap(index, k);
+        System.arraycopy(src, srcPos, arr, index, k);
+    }
 
+    // Makes room for k elements at index with a single capacity check and a single memmove.
+    private void openGap(int index, int k){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException(index);
+        }
+        if(k > arr.length - size){
+            grow(size + k);
+        }
+        System.arraycopy(arr, index, arr, index + k, size - index);
+        size = size + k;
+        if(ContainerMetrics.ENABLED){
+            ContainerMetrics.VECTOR.sized(size);
+        }
+    }
 
-    class VIterator implements RandomAccessIterator<T> {
+    private void checkIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private class VIterator implements RandomAccessIterator<T>, Cursor<T> {
 
         private int index;
 
         private VIterator(int index){
             this.index = index;
+            if(ContainerMetrics.ENABLED){
+                ContainerMetrics.VECTOR.iteratorCreated();
+            }
         }
 
         @Override
         public T previous() {
-            return null;
+            return dec().get();
         }
 
         @Override
         public boolean hasPrevious() {
-            return false;
+            return index > 0;
+        }
+
+        @Override
+        public Cursor<T> toFront() {
+            index = 0;
+            return this;
+        }
+
+        @Override
+        public Cursor<T> toBack() {
+            index = size - 1;
+            return this;
+        }
+
+        @Override
+        public boolean isValid() {
+            return index >= 0 && index < size;
         }
 
         @Override
@@ -154,28 +557,101 @@ public class Vector<T> extends Container<T> {
 
         @Override
         public RandomAccessIterator<T> clone() {
-            //super.clone();
             return new VIterator(index);
         }
 
         @Override
         public void advance(long n) {
-
+            index = Math.toIntExact(index + n);
         }
 
         @Override
         public RandomAccessIterator<T> add(long n) {
-            return null;
+            return new VIterator(Math.toIntExact(index + n));
+        }
+
+        @Override
+        public long distance(RandomAccessIterator<T> last) {
+            return ((VIterator) last).index - index;
         }
 
         @Override
         public boolean hasNext() {
-            return false;
+            return index < size;
         }
 
         @Override
         public T next() {
-            return null;
+            @SuppressWarnings("unchecked") var obj = (T) arr[index++];
+            return obj;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }else{
+                @SuppressWarnings("unchecked") VIterator it = (VIterator) obj;
+                return index == it.index && owner() == it.owner();
+            }
+        }
+
+        private Vector<T> owner(){
+            return Vector.this;
+        }
+    }
+
+    private class VSpliterator implements Spliterator<T> {
+
+        private int index;
+        private final int fence;
+
+        private VSpliterator(int index, int fence){
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if(index < fence){
+                @SuppressWarnings("unchecked") var obj = (T) arr[index++];
+                action.accept(obj);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            Object[] a = arr;
+            for(int i = index; i < fence; i = i + 1){
+                @SuppressWarnings("unchecked") var obj = (T) a[i];
+                action.accept(obj);
+            }
+            index = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if(mid <= index){
+                return null;
+            }
+            VSpliterator prefix = new VSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
     }
 }
@@ -0,0 +1,30 @@
+package rul.iterator;
+
+/**
+ * A BidirectionalIterator that can be moved back to either end of its container.
+ *
+ * Instead of asking the container for new iterators on every traversal , a cursor is obtained once and reset, so
+ * traversal loops don't allocate at all:
+ * <pre>
+ *     for(cursor.toFront(); cursor.isValid(); cursor.inc()){ ... }
+ *     for(cursor.toBack(); cursor.isValid(); cursor.dec()){ ... }
+ * </pre>
+ */
+public interface Cursor<T> extends BidirectionalIterator<T> {
+    /**
+     * Moves the cursor to the first element, it's invalid afterwards if the container is empty.
+     * @return This cursor.
+     */
+    Cursor<T> toFront();
+
+    /**
+     * Moves the cursor to the last element, it's invalid afterwards if the container is empty.
+     * @return This cursor.
+     */
+    Cursor<T> toBack();
+
+    /**
+     * @return Whether the cursor points to an element of its container.
+     */
+    boolean isValid();
+}
@@ -0,0 +1,29 @@
+package rul.iterator;
+
+/**
+ * A RandomAccessIterator over double elements.
+ *
+ * The inherited get/set/next/previous work on boxed Doubles so that primitive containers still fit the generic
+ * algorithms, the double versions below never box.
+ */
+public interface DoubleRandomAccessIterator extends RandomAccessIterator<Double> {
+    double getDouble();
+
+    void setDouble(double t);
+
+    double nextDouble();
+
+    double previousDouble();
+
+    @Override
+    DoubleRandomAccessIterator inc();
+
+    @Override
+    DoubleRandomAccessIterator dec();
+
+    @Override
+    DoubleRandomAccessIterator add(long n);
+
+    @Override
+    DoubleRandomAccessIterator clone();
+}
@@ -0,0 +1,25 @@
+package rul.iterator;
+
+/**
+ * A BidirectionalIterator over int elements.
+ *
+ * The inherited get/set/next/previous work on boxed Integers, the int versions below never box.
+ */
+public interface IntBidirectionalIterator extends BidirectionalIterator<Integer> {
+    int getInt();
+
+    void setInt(int t);
+
+    int nextInt();
+
+    int previousInt();
+
+    @Override
+    IntBidirectionalIterator inc();
+
+    @Override
+    IntBidirectionalIterator dec();
+
+    @Override
+    IntBidirectionalIterator clone();
+}
@@ -0,0 +1,21 @@
+package rul.iterator;
+
+/**
+ * A RandomAccessIterator over int elements.
+ *
+ * The inherited get/set/next/previous work on boxed Integers so that primitive containers still fit the generic
+ * algorithms, the int versions from IntBidirectionalIterator never box.
+ */
+public interface IntRandomAccessIterator extends RandomAccessIterator<Integer>, IntBidirectionalIterator {
+    @Override
+    IntRandomAccessIterator inc();
+
+    @Override
+    IntRandomAccessIterator dec();
+
+    @Override
+    IntRandomAccessIterator add(long n);
+
+    @Override
+    IntRandomAccessIterator clone();
+}
@@ -0,0 +1,611 @@
+package rul.iterator;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Lazy adapters over ForwardIterator and BidirectionalIterator.
+ *
+ * Every adapter wraps the iterators it's given , like ReverseBidirectionalIterator does, and only touches them when
+ * asked for an element, so a chain of adapters is evaluated element by element in a single pass with no container
+ * in between:
+ * <pre>
+ *     var it = Iterators.take(Iterators.map(Iterators.filter(list.begin(), t -> t > 0), t -> t * 2), 10);
+ *     while(it.hasNext()){ use(it.next()); }
+ * </pre>
+ * A map of a map and a filter of a filter are fused into a single adapter.
+ *
+ * The adapters take ownership of the iterators they wrap, which must not be moved by anyone else afterwards. They
+ * end where the wrapped iterators stop having a next element , range bounds an iterator to [first,last).
+ */
+public final class Iterators {
+
+    private Iterators(){}
+
+    /**
+     * @param first The first interval.
+     * @param last The second interval, an iterator of the same container reachable from first.
+     * @return An iterator over [first,last).
+     */
+    public static <T> ForwardIterator<T> range(ForwardIterator<T> first, ForwardIterator<T> last){
+        return new RangeIterator<>(first, Objects.requireNonNull(last));
+    }
+
+    /**
+     * @param it The iterator to be wrapped.
+     * @param f The function applied to every element, each time it's read.
+     * @return An iterator over f of the elements of it, it can't set elements.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T,R> ForwardIterator<R> map(ForwardIterator<T> it, Function<? super T, ? extends R> f){
+        Objects.requireNonNull(f);
+        if(it.getClass() == MapIterator.class){
+            var inner = (MapIterator<Object, T, ForwardIterator<Object>>) it;
+            Function<Object, T> g = (Function<Object, T>) inner.f;
+            return new MapIterator<>(inner.it, g.andThen(f));
+        }
+        return new MapIterator<>(it, f);
+    }
+
+    /**
+     * @param it The iterator to be wrapped.
+     * @param f The function applied to every element, each time it's read.
+     * @return A bidirectional iterator over f of the elements of it, it can't set elements.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T,R> BidirectionalIterator<R> map(BidirectionalIterator<T> it, Function<? super T, ? extends R> f){
+        Objects.requireNonNull(f);
+        if(it.getClass() == BidirectionalMapIterator.class){
+            var inner = (BidirectionalMapIterator<Object, T>) it;
+            Function<Object, T> g = (Function<Object, T>) inner.f;
+            return new BidirectionalMapIterator<>(inner.it, g.andThen(f));
+        }
+        return new BidirectionalMapIterator<>(it, f);
+    }
+
+    /**
+     * @param it The iterator to be wrapped.
+     * @param p Decides which elements are kept , tested once per element and direction of travel.
+     * @return An iterator over the elements of it that satisfy p. Setting an element writes through to it.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ForwardIterator<T> filter(ForwardIterator<T> it, Predicate<? super T> p){
+        Objects.requireNonNull(p);
+        if(it.getClass() == FilterIterator.class){
+            var inner = (FilterIterator<T, ForwardIterator<T>>) it;
+            return new FilterIterator<>(inner.it, both(inner.p, p));
+        }
+        return new FilterIterator<>(it, p);
+    }
+
+    /**
+     * Moving backwards skips elements the same way, but it's the caller's job to make sure there's a previous
+     * element that satisfies p, as with dec() on any iterator.
+     * @param it The iterator to be wrapped.
+     * @param p Decides which elements are kept , tested once per element and direction of travel.
+     * @return A bidirectional iterator over the elements of it that satisfy p. Setting an element writes through
+     * to it.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BidirectionalIterator<T> filter(BidirectionalIterator<T> it, Predicate<? super T> p){
+        Objects.requireNonNull(p);
+        if(it.getClass() == BidirectionalFilterIterator.class){
+            var inner = (BidirectionalFilterIterator<T>) it;
+            return new BidirectionalFilterIterator<>(inner.it, both(inner.p, p));
+        }
+        return new BidirectionalFilterIterator<>(it, p);
+    }
+
+    /**
+     * @param it The iterator to be wrapped.
+     * @param n The maximum number of elements.
+     * @return An iterator over the first n elements of it.
+     * @throws IllegalArgumentException If n is negative.
+     */
+    public static <T> ForwardIterator<T> take(ForwardIterator<T> it, long n){
+        if(n < 0){
+            throw new IllegalArgumentException();
+        }
+        return new TakeIterator<>(it, n);
+    }
+
+    /**
+     * The elements are skipped when the returned iterator is first used , not by this call.
+     * @param it The iterator to be wrapped.
+     * @param n The number of elements to skip.
+     * @return An iterator over the elements of it after the first n.
+     * @throws IllegalArgumentException If n is negative.
+     */
+    public static <T> ForwardIterator<T> skip(ForwardIterator<T> it, long n){
+        if(n < 0){
+            throw new IllegalArgumentException();
+        }
+        return new SkipIterator<>(it, n);
+    }
+
+    /**
+     * @param a The iterator over the first elements of the pairs.
+     * @param b The iterator over the second elements of the pairs.
+     * @param f Combines every pair, each time it's read.
+     * @return An iterator over f of the pairs of elements at the same positions, as long as both have one.
+     */
+    public static <A,B,R> ForwardIterator<R> zip(ForwardIterator<A> a, ForwardIterator<B> b,
+                                                BiFunction<? super A, ? super B, ? extends R> f){
+        return new ZipIterator<>(a, b, Objects.requireNonNull(f));
+    }
+
+    /**
+     * @param first The iterator whose elements come first.
+     * @param second The iterator whose elements follow.
+     * @return An iterator over the elements of first followed by those of second.
+     */
+    public static <T> ForwardIterator<T> concat(ForwardIterator<T> first, ForwardIterator<T> second){
+        return new ConcatIterator<>(first, second);
+    }
+
+    private static <T> Predicate<T> both(Predicate<? super T> p, Predicate<? super T> q){
+        return t -> p.test(t) && q.test(t);
+    }
+
+    private static class RangeIterator<T> implements ForwardIterator<T> {
+        private final ForwardIterator<T> it;
+        private final ForwardIterator<T> last;
+
+        private RangeIterator(ForwardIterator<T> it, ForwardIterator<T> last){
+            this.it = it;
+            this.last = last;
+        }
+
+        @Override
+        public T get() {
+            return it.get();
+        }
+
+        @Override
+        public void set(T t) {
+            it.set(t);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !it.equals(last);
+        }
+
+        @Override
+        public T next() {
+            return it.next();
+        }
+
+        @Override
+        public ForwardIterator<T> inc() {
+            it.inc();
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return getClass() == obj.getClass() && it.equals(((RangeIterator<?>) obj).it);
+        }
+
+        @Override
+        public ForwardIterator<T> clone() {
+            return new RangeIterator<>(it.clone(), last);
+        }
+    }
+
+    private static class MapIterator<T,R,It extends ForwardIterator<T>> implements ForwardIterator<R> {
+        protected final It it;
+        protected final Function<? super T, ? extends R> f;
+
+        private MapIterator(It it, Function<? super T, ? extends R> f){
+            this.it = it;
+            this.f = f;
+        }
+
+        @Override
+        public R get() {
+            return f.apply(it.get());
+        }
+
+        @Override
+        public void set(R r) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        public R next() {
+            return f.apply(it.next());
+        }
+
+        @Override
+        public ForwardIterator<R> inc() {
+            it.inc();
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return getClass() == obj.getClass() && it.equals(((MapIterator<?,?,?>) obj).it);
+        }
+
+        @Override
+        public ForwardIterator<R> clone() {
+            @SuppressWarnings("unchecked") It copy = (It) it.clone();
+            return new MapIterator<>(copy, f);
+        }
+    }
+
+    private static class BidirectionalMapIterator<T,R> extends MapIterator<T,R,BidirectionalIterator<T>>
+            implements BidirectionalIterator<R> {
+
+        private BidirectionalMapIterator(BidirectionalIterator<T> it, Function<? super T, ? extends R> f){
+            super(it, f);
+        }
+
+        @Override
+        public R previous() {
+            return f.apply(it.previous());
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return it.hasPrevious();
+        }
+
+        @Override
+        public BidirectionalIterator<R> dec() {
+            it.dec();
+            return this;
+        }
+
+        @Override
+        public BidirectionalIterator<R> clone() {
+            return new BidirectionalMapIterator<>((BidirectionalIterator<T>) it.clone(), f);
+        }
+    }
+
+    private static class FilterIterator<T,It extends ForwardIterator<T>> implements ForwardIterator<T> {
+        protected final It it;
+        protected final Predicate<? super T> p;
+        // Whether it already points to an element satisfying p , or to the end.
+        protected boolean settled = false;
+
+        private FilterIterator(It it, Predicate<? super T> p){
+            this.it = it;
+            this.p = p;
+        }
+
+        protected final void settle(){
+            if(!settled){
+                while(it.hasNext() && !p.test(it.get())){
+                    it.inc();
+                }
+                settled = true;
+            }
+        }
+
+        @Override
+        public T get() {
+            settle();
+            return it.get();
+        }
+
+        @Override
+        public void set(T t) {
+            settle();
+            it.set(t);
+        }
+
+        @Override
+        public boolean hasNext() {
+            settle();
+            return it.hasNext();
+        }
+
+        @Override
+        public T next() {
+            settle();
+            settled = false;
+            return it.next();
+        }
+
+        @Override
+        public ForwardIterator<T> inc() {
+            settle();
+            it.inc();
+            settled = false;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }
+            var other = (FilterIterator<?,?>) obj;
+            settle();
+            other.settle();
+            return it.equals(other.it);
+        }
+
+        @Override
+        public ForwardIterator<T> clone() {
+            @SuppressWarnings("unchecked") It copy = (It) it.clone();
+            var clone = new FilterIterator<>(copy, p);
+            clone.settled = settled;
+            return clone;
+        }
+    }
+
+    private static class BidirectionalFilterIterator<T> extends FilterIterator<T,BidirectionalIterator<T>>
+            implements BidirectionalIterator<T> {
+
+        private BidirectionalFilterIterator(BidirectionalIterator<T> it, Predicate<? super T> p){
+            super(it, p);
+        }
+
+        @Override
+        public T previous() {
+            return dec().get();
+        }
+
+        // Scans backwards on a copy , O(n) worst case.
+        @Override
+        public boolean hasPrevious() {
+            var copy = (BidirectionalIterator<T>) it.clone();
+            while(copy.hasPrevious()){
+                if(p.test(copy.dec().get())){
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public BidirectionalIterator<T> dec() {
+            do{
+                it.dec();
+            }while(!p.test(it.get()));
+            settled = true;
+            return this;
+        }
+
+        @Override
+        public BidirectionalIterator<T> clone() {
+            var clone = new BidirectionalFilterIterator<>((BidirectionalIterator<T>) it.clone(), p);
+            clone.settled = settled;
+            return clone;
+        }
+    }
+
+    private static class TakeIterator<T> implements ForwardIterator<T> {
+        private final ForwardIterator<T> it;
+        private long remaining;
+
+        private TakeIterator(ForwardIterator<T> it, long remaining){
+            this.it = it;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public T get() {
+            return it.get();
+        }
+
+        @Override
+        public void set(T t) {
+            it.set(t);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 && it.hasNext();
+        }
+
+        @Override
+        public T next() {
+            remaining = remaining - 1;
+            return it.next();
+        }
+
+        @Override
+        public ForwardIterator<T> inc() {
+            remaining = remaining - 1;
+            it.inc();
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }
+            var other = (TakeIterator<?>) obj;
+            return remaining == other.remaining && it.equals(other.it);
+        }
+
+        @Override
+        public ForwardIterator<T> clone() {
+            return new TakeIterator<>(it.clone(), remaining);
+        }
+    }
+
+    private static class SkipIterator<T> implements ForwardIterator<T> {
+        private final ForwardIterator<T> it;
+        private long toSkip;
+
+        private SkipIterator(ForwardIterator<T> it, long toSkip){
+            this.it = it;
+            this.toSkip = toSkip;
+        }
+
+        private void settle(){
+            while(toSkip > 0 && it.hasNext()){
+                it.inc();
+                toSkip = toSkip - 1;
+            }
+            toSkip = 0;
+        }
+
+        @Override
+        public T get() {
+            settle();
+            return it.get();
+        }
+
+        @Override
+        public void set(T t) {
+            settle();
+            it.set(t);
+        }
+
+        @Override
+        public boolean hasNext() {
+            settle();
+            return it.hasNext();
+        }
+
+        @Override
+        public T next() {
+            settle();
+            return it.next();
+        }
+
+        @Override
+        public ForwardIterator<T> inc() {
+            settle();
+            it.inc();
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }
+            var other = (SkipIterator<?>) obj;
+            settle();
+            other.settle();
+            return it.equals(other.it);
+        }
+
+        @Override
+        public ForwardIterator<T> clone() {
+            return new SkipIterator<>(it.clone(), toSkip);
+        }
+    }
+
+    private static class ZipIterator<A,B,R> implements ForwardIterator<R> {
+        private final ForwardIterator<A> a;
+        private final ForwardIterator<B> b;
+        private final BiFunction<? super A, ? super B, ? extends R> f;
+
+        private ZipIterator(ForwardIterator<A> a, ForwardIterator<B> b, BiFunction<? super A, ? super B, ? extends R> f){
+            this.a = a;
+            this.b = b;
+            this.f = f;
+        }
+
+        @Override
+        public R get() {
+            return f.apply(a.get(), b.get());
+        }
+
+        @Override
+        public void set(R r) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return a.hasNext() && b.hasNext();
+        }
+
+        @Override
+        public R next() {
+            return f.apply(a.next(), b.next());
+        }
+
+        @Override
+        public ForwardIterator<R> inc() {
+            a.inc();
+            b.inc();
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }
+            var other = (ZipIterator<?,?,?>) obj;
+            return a.equals(other.a) && b.equals(other.b);
+        }
+
+        @Override
+        public ForwardIterator<R> clone() {
+            return new ZipIterator<>(a.clone(), b.clone(), f);
+        }
+    }
+
+    private static class ConcatIterator<T> implements ForwardIterator<T> {
+        private final ForwardIterator<T> first;
+        private final ForwardIterator<T> second;
+
+        private ConcatIterator(ForwardIterator<T> first, ForwardIterator<T> second){
+            this.first = first;
+            this.second = second;
+        }
+
+        private ForwardIterator<T> current(){
+            return first.hasNext() ? first : second;
+        }
+
+        @Override
+        public T get() {
+            return current().get();
+        }
+
+        @Override
+        public void set(T t) {
+            current().set(t);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return first.hasNext() || second.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return current().next();
+        }
+
+        @Override
+        public ForwardIterator<T> inc() {
+            current().inc();
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(getClass() != obj.getClass()){
+                return false;
+            }
+            var other = (ConcatIterator<?>) obj;
+            return first.equals(other.first) && second.equals(other.second);
+        }
+
+        @Override
+        public ForwardIterator<T> clone() {
+            return new ConcatIterator<>(first.clone(), second.clone());
+        }
+    }
+}
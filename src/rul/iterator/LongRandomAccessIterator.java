@@ -0,0 +1,29 @@
+package rul.iterator;
+
+/**
+ * A RandomAccessIterator over long elements.
+ *
+ * The inherited get/set/next/previous work on boxed Longs so that primitive containers still fit the generic
+ * algorithms, the long versions below never box.
+ */
+public interface LongRandomAccessIterator extends RandomAccessIterator<Long> {
+    long getLong();
+
+    void setLong(long t);
+
+    long nextLong();
+
+    long previousLong();
+
+    @Override
+    LongRandomAccessIterator inc();
+
+    @Override
+    LongRandomAccessIterator dec();
+
+    @Override
+    LongRandomAccessIterator add(long n);
+
+    @Override
+    LongRandomAccessIterator clone();
+}
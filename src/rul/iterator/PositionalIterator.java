@@ -0,0 +1,15 @@
+package rul.iterator;
+
+/**
+ * A BidirectionalIterator that hands out the position it points to.
+ *
+ * The position is whatever its container uses internally to find an element , a list node for instance. Modifiers
+ * taking iterators read it through this single interface call instead of checking the iterator's class and
+ * unwrapping adapters, so any iterator that can tell its position is accepted , reverse iterators included.
+ */
+public interface PositionalIterator<T> extends BidirectionalIterator<T> {
+    /**
+     * @return The container specific position this iterator points to.
+     */
+    Object position();
+}
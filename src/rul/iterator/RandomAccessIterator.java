@@ -4,4 +4,11 @@ public interface RandomAccessIterator<T> extends BidirectionalIterator<T> {
     void advance(long n);
 
     RandomAccessIterator<T> add(long n);
+
+    /**
+     * @param last An iterator of the same container.
+     * @return The number of inc() calls it takes to get from this iterator to last, negative if last comes first.
+     * @complexity O(1).
+     */
+    long distance(RandomAccessIterator<T> last);
 }
@@ -1,17 +1,29 @@
 package rul.iterator;
 
-public class ReverseBidirectionalIterator<T,It extends BidirectionalIterator<T>> implements BidirectionalIterator<T> {
+public class ReverseBidirectionalIterator<T,It extends BidirectionalIterator<T>> implements PositionalIterator<T> {
 
     protected final It it;
+    // it , if it can tell its position.
+    private final PositionalIterator<T> positional;
 
     public ReverseBidirectionalIterator(It it){
         this.it = it;
+        this.positional = it instanceof PositionalIterator ? (PositionalIterator<T>) it : null;
     }
 
     public It getIt(){
         return it;
     }
 
+    /**
+     * A reverse iterator points to the same element as the iterator it wraps, so it shares its position.
+     * @return The position of the wrapped iterator , or this wrapper if it has none, which no container accepts.
+     */
+    @Override
+    public Object position() {
+        return positional != null ? positional.position() : this;
+    }
+
     @Override
     public T previous() {
         return it.inc().get();
@@ -68,11 +80,7 @@ public class ReverseBidirectionalIterator<T,It extends BidirectionalIterator<T>>
 
     @Override
     public BidirectionalIterator<T> clone() {
-        try {
-            super.clone();
-        } catch (CloneNotSupportedException e) {
-            e.printStackTrace();
-        }
-        return new ReverseBidirectionalIterator<>(it);
+        @SuppressWarnings("unchecked") It copy = (It) it.clone();
+        return new ReverseBidirectionalIterator<>(copy);
     }
 }
@@ -16,6 +16,19 @@ public class ReverseRandomAccessIterator<T, It extends RandomAccessIterator<T>>
 
     @Override
     public RandomAccessIterator<T> add(long n) {
-        return null;
+        @SuppressWarnings("unchecked") It moved = (It) it.add(-n);
+        return new ReverseRandomAccessIterator<>(moved);
+    }
+
+    @Override
+    public long distance(RandomAccessIterator<T> last) {
+        @SuppressWarnings("unchecked") ReverseRandomAccessIterator<T, It> temp = (ReverseRandomAccessIterator<T, It>) last;
+        return temp.it.distance(it);
+    }
+
+    @Override
+    public RandomAccessIterator<T> clone() {
+        @SuppressWarnings("unchecked") It copy = (It) it.clone();
+        return new ReverseRandomAccessIterator<>(copy);
     }
 }
@@ -0,0 +1,156 @@
+import org.junit.jupiter.api.Test;
+import rul.container.ConcurrentDoublyLinkedList;
+import rul.iterator.BidirectionalIterator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentDoublyLinkedListTest {
+
+    @Test
+    public void testSequential(){
+        ConcurrentDoublyLinkedList<Integer> list = new ConcurrentDoublyLinkedList<>();
+        assert list.isEmpty();
+        assert list.peekFront() == null && list.peekBack() == null;
+        assert list.pollFront() == null && list.pollBack() == null;
+
+        list.pushFront(10);
+        list.pushBack(20);
+        list.pushBack(30);
+        list.pushFront(1);
+        assert list.size() == 4;
+        assert list.getFront() == 1;
+        assert list.getBack() == 30;
+
+        BidirectionalIterator<Integer> it = list.begin();
+        assert it.next() == 1;
+        assert it.next() == 10;
+        assert it.next() == 20;
+        assert it.next() == 30;
+        assert !it.hasNext();
+        assert it.hasPrevious();
+        assert it.previous() == 30;
+
+        it = list.reverseBegin();
+        assert it.next() == 30;
+        assert it.next() == 20;
+
+        assert list.popFront() == 1;
+        assert list.popBack() == 30;
+        assert list.stream().toList().equals(List.of(10, 20));
+
+        list.clear();
+        assert list.isEmpty();
+        assert list.size() == 0;
+
+        boolean thrown = false;
+        try{
+            list.popBack();
+        }catch(NoSuchElementException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testIteratorSeesRemoval(){
+        ConcurrentDoublyLinkedList<Integer> list = new ConcurrentDoublyLinkedList<>();
+        for(int i = 0; i < 10; i = i + 1){
+            list.pushBack(i);
+        }
+
+        BidirectionalIterator<Integer> it = list.begin();
+        it.inc();
+        assert it.get() == 1;
+
+        // Remove the element the iterator sits on and the ones around it.
+        list.popFront();
+        list.popFront();
+        list.popFront();
+        assert it.get() == 1;
+        assert it.next() == 1;
+        assert it.get() == 3;
+
+        boolean thrown = false;
+        try{
+            list.begin().clone().set(null);
+        }catch(NullPointerException e){
+            thrown = true;
+        }
+        assert thrown;
+
+        it.set(33);
+        assert list.getFront() == 33;
+    }
+
+    @Test
+    public void testProducersConsumers() throws InterruptedException {
+        final int producers = 4;
+        final int consumers = 4;
+        final int perProducer = 50000;
+
+        ConcurrentDoublyLinkedList<Integer> list = new ConcurrentDoublyLinkedList<>();
+        BitSet[] seen = new BitSet[consumers];
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for(int p = 0; p < producers; p = p + 1){
+            final int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                await(start);
+                for(int i = 0; i < perProducer; i = i + 1){
+                    if((i & 1) == 0){
+                        list.pushBack(base + i);
+                    }else{
+                        list.pushFront(base + i);
+                    }
+                }
+            }));
+        }
+        for(int c = 0; c < consumers; c = c + 1){
+            final BitSet mine = seen[c] = new BitSet();
+            final boolean front = (c & 1) == 0;
+            threads.add(new Thread(() -> {
+                await(start);
+                while(consumed.get() < producers * perProducer){
+                    Integer t = front ? list.pollFront() : list.pollBack();
+                    if(t != null){
+                        assert !mine.get(t);
+                        mine.set(t);
+                        consumed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        for(Thread thread : threads){
+            thread.join();
+        }
+
+        BitSet all = new BitSet();
+        int total = 0;
+        for(BitSet s : seen){
+            total += s.cardinality();
+            all.or(s);
+        }
+        assert total == producers * perProducer;
+        assert all.cardinality() == producers * perProducer;
+        assert list.isEmpty();
+        assert list.size() == 0;
+    }
+
+    private static void await(CountDownLatch latch){
+        try{
+            latch.await();
+        }catch(InterruptedException e){
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import rul.container.ChannelInput;
+import rul.container.ChannelOutput;
+import rul.container.ContainerCodec;
+import rul.container.DoubleVector;
+import rul.container.DoublyLinkedList;
+import rul.container.ElementCodec;
+import rul.container.IntVector;
+import rul.container.LongVector;
+import rul.container.OffHeapDoubleVector;
+import rul.container.OffHeapLongVector;
+import rul.container.Vector;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class ContainerCodecTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testObjects() throws IOException {
+        Path path = dir.resolve("objects");
+        Vector<String> vector = new Vector<>();
+        for(int i = 0; i < 1000; i = i + 1){
+            vector.pushBack("element " + i + (i % 7 == 0 ? " é中" : ""));
+        }
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for(int i = 0; i < 1000; i = i + 1){
+            list.pushBack(i * 31);
+        }
+
+        // A tiny buffer makes every value straddle a flush sooner or later.
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            ChannelOutput out = new ChannelOutput(channel, 16)){
+            ContainerCodec.write(vector, ElementCodec.STRING, out);
+            ContainerCodec.write(list, ElementCodec.INT, out);
+            ContainerCodec.write(vector, ElementCodec.STRING, out);
+        }
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            ChannelInput in = new ChannelInput(channel, 16)){
+            Vector<String> readVector = ContainerCodec.readVector(ElementCodec.STRING, in);
+            assert readVector.size() == 1000;
+            for(int i = 0; i < 1000; i = i + 1){
+                assert readVector.get(i).equals(vector.get(i));
+            }
+
+            DoublyLinkedList<Integer> readList = ContainerCodec.readDoublyLinkedList(ElementCodec.INT, in);
+            assert readList.size() == 1000;
+            int expected = 0;
+            for(Integer i : readList){
+                assert i == expected;
+                expected = expected + 31;
+            }
+
+            // Vectors and lists share their layout.
+            DoublyLinkedList<String> asList = ContainerCodec.readDoublyLinkedList(ElementCodec.STRING, in);
+            assert asList.size() == 1000 && asList.getBack().equals(vector.get(999));
+        }
+    }
+
+    @Test
+    public void testPrimitives() throws IOException {
+        Path path = dir.resolve("primitives");
+        IntVector ints = new IntVector();
+        LongVector longs = new LongVector();
+        DoubleVector doubles = new DoubleVector();
+        for(int i = 0; i < 100_000; i = i + 1){
+            ints.pushBack(i ^ 0x5A5A5A5A);
+            longs.pushBack((long) i << 33 | i);
+            doubles.pushBack(i / 3.0);
+        }
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            ChannelOutput out = new ChannelOutput(channel, 1000)){
+            ContainerCodec.write(ints, out);
+            ContainerCodec.write(longs, out);
+            ContainerCodec.write(doubles, out);
+        }
+        assert Files.size(path) == 3 * 9 + 100_000L * (4 + 8 + 8);
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            ChannelInput in = new ChannelInput(channel, 1000)){
+            IntVector readInts = ContainerCodec.readIntVector(in);
+            LongVector readLongs = ContainerCodec.readLongVector(in);
+            DoubleVector readDoubles = ContainerCodec.readDoubleVector(in);
+            assert readInts.size() == 100_000 && readLongs.size() == 100_000 && readDoubles.size() == 100_000;
+            for(int i = 0; i < 100_000; i = i + 1){
+                assert readInts.get(i) == ints.get(i);
+                assert readLongs.get(i) == longs.get(i);
+                assert readDoubles.get(i) == doubles.get(i);
+            }
+        }
+    }
+
+    @Test
+    public void testOffHeap() throws IOException {
+        Path path = dir.resolve("offheap");
+        try(OffHeapLongVector longs = new OffHeapLongVector(0, 1 << 10);
+            OffHeapDoubleVector doubles = new OffHeapDoubleVector(0, 1 << 10)){
+            for(long i = 0; i < 10_000; i = i + 1){
+                longs.pushBack(i * i);
+                doubles.pushBack(i * 0.5);
+            }
+
+            try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                ChannelOutput out = new ChannelOutput(channel, 100)){
+                ContainerCodec.write(longs, out);
+                ContainerCodec.write(doubles, out);
+                ContainerCodec.write(longs, out);
+            }
+        }
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            ChannelInput in = new ChannelInput(channel, 100)){
+            try(OffHeapLongVector longs = ContainerCodec.readOffHeapLongVector(in);
+                OffHeapDoubleVector doubles = ContainerCodec.readOffHeapDoubleVector(in)){
+                assert longs.longSize() == 10_000 && doubles.longSize() == 10_000;
+                for(long i = 0; i < 10_000; i = i + 1){
+                    assert longs.get(i) == i * i;
+                    assert doubles.get(i) == i * 0.5;
+                }
+            }
+
+            // Off heap and on heap vectors share their layout.
+            LongVector onHeap = ContainerCodec.readLongVector(in);
+            assert onHeap.size() == 10_000 && onHeap.get(9_999) == 9_999L * 9_999L;
+        }
+    }
+
+    @Test
+    public void testCorrupt() throws IOException {
+        Path path = dir.resolve("corrupt");
+        IntVector ints = new IntVector();
+        for(int i = 0; i < 100; i = i + 1){
+            ints.pushBack(i);
+        }
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            ChannelOutput out = new ChannelOutput(channel)){
+            ContainerCodec.write(ints, out);
+        }
+
+        boolean thrown = false;
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            ChannelInput in = new ChannelInput(channel)){
+            ContainerCodec.readLongVector(in);
+        }catch(StreamCorruptedException e){
+            thrown = true;
+        }
+        assert thrown;
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)){
+            channel.truncate(9 + 50 * 4 + 2);
+        }
+        thrown = false;
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            ChannelInput in = new ChannelInput(channel)){
+            ContainerCodec.readIntVector(in);
+        }catch(EOFException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testTruncatedHeader() throws IOException {
+        assertTruncated("ints", 'I', Integer.MAX_VALUE - 9L, ContainerCodec::readIntVector);
+        assertTruncated("longs", 'J', Integer.MAX_VALUE - 9L, ContainerCodec::readLongVector);
+        assertTruncated("doubles", 'D', Integer.MAX_VALUE - 9L, ContainerCodec::readDoubleVector);
+        assertTruncated("vector", 'O', Integer.MAX_VALUE - 9L, in -> ContainerCodec.readVector(ElementCodec.LONG, in));
+        assertTruncated("list", 'O', Integer.MAX_VALUE - 9L,
+                in -> ContainerCodec.readDoublyLinkedList(ElementCodec.LONG, in));
+        assertTruncated("offHeapLongs", 'J', Long.MAX_VALUE / 16, ContainerCodec::readOffHeapLongVector);
+        assertTruncated("offHeapDoubles", 'D', Long.MAX_VALUE / 16, ContainerCodec::readOffHeapDoubleVector);
+
+        // A single string claiming to be nearly 2GiB long.
+        Path path = dir.resolve("string");
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            ChannelOutput out = new ChannelOutput(channel)){
+            out.writeByte((byte) 'O');
+            out.writeLong(1);
+            out.writeInt(Integer.MAX_VALUE);
+            out.writeInt(42);
+        }
+        assertEof(path, in -> ContainerCodec.readVector(ElementCodec.STRING, in));
+    }
+
+    private interface Read {
+        Object read(ChannelInput in) throws IOException;
+    }
+
+    private void assertTruncated(String name, char tag, long n, Read read) throws IOException {
+        Path path = dir.resolve(name);
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            ChannelOutput out = new ChannelOutput(channel)){
+            out.writeByte((byte) tag);
+            out.writeLong(n);
+        }
+        assert Files.size(path) == 9;
+        assertEof(path, read);
+    }
+
+    private static void assertEof(Path path, Read read) throws IOException {
+        boolean thrown = false;
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            ChannelInput in = new ChannelInput(channel)){
+            read.read(in);
+        }catch(EOFException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+}
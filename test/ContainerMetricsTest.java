@@ -0,0 +1,85 @@
+import org.junit.jupiter.api.Test;
+import rul.container.ContainerMetrics;
+import rul.container.DoublyLinkedList;
+import rul.container.Vector;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+
+public class ContainerMetricsTest {
+
+    @Test
+    public void testDisabled(){
+        assert !ContainerMetrics.ENABLED;
+
+        Vector<Integer> vector = new Vector<>();
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for(int i = 0; i < 100; i = i + 1){
+            vector.pushBack(i);
+            list.pushBack(i);
+        }
+        vector.begin();
+        list.popFront();
+
+        ContainerMetrics metrics = ContainerMetrics.vector();
+        assert metrics.getReallocations() == 0 && metrics.getBytesCopied() == 0 && metrics.getPeakSize() == 0;
+        metrics = ContainerMetrics.doublyLinkedList();
+        assert metrics.getLinks() == 0 && metrics.getUnlinks() == 0 && metrics.getIteratorAllocations() == 0;
+    }
+
+    @Test
+    public void testEnabled() throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-Drul.metrics=true", "-cp", System.getProperty("java.class.path"),
+                Probe.class.getName())
+                .inheritIO()
+                .start();
+        assert process.waitFor() == 0;
+    }
+
+    // Runs with metrics on and reads the counters back through JMX , exits with an error if any is off.
+    public static class Probe {
+        public static void main(String[] args) throws Exception {
+            Vector<Integer> vector = new Vector<>(1);
+            for(int i = 0; i < 5; i = i + 1){
+                vector.pushBack(i);
+            }
+            vector.begin();
+            vector.end();
+
+            DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+            for(int i = 0; i < 10; i = i + 1){
+                list.pushBack(i);
+            }
+            list.popFront();
+            list.popBack(3);
+            list.begin();
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("rul.container:type=ContainerMetrics,name=Vector");
+            // Capacity 1 -> 2 -> 4 -> 8 , copying 1 + 2 + 4 elements.
+            check(server.getAttribute(name, "Reallocations").equals(3L));
+            check(server.getAttribute(name, "BytesCopied").equals(7L * ContainerMetrics.referenceBytes()));
+            check(server.getAttribute(name, "PeakSize").equals(5L));
+            check(server.getAttribute(name, "PeakCapacity").equals(8L));
+            check(server.getAttribute(name, "IteratorAllocations").equals(2L));
+
+            name = new ObjectName("rul.container:type=ContainerMetrics,name=DoublyLinkedList");
+            check(server.getAttribute(name, "Links").equals(10L));
+            check(server.getAttribute(name, "Unlinks").equals(4L));
+            check(server.getAttribute(name, "PeakSize").equals(10L));
+            check(server.getAttribute(name, "IteratorAllocations").equals(1L));
+
+            server.invoke(name, "reset", null, null);
+            check(ContainerMetrics.doublyLinkedList().getLinks() == 0);
+        }
+
+        private static void check(boolean condition){
+            if(!condition){
+                throw new AssertionError();
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+import org.junit.jupiter.api.Test;
+import rul.container.Deque;
+import rul.iterator.Cursor;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class DequeTest {
+
+    @Test
+    public void testPushPop(){
+        Deque<Integer> deque = new Deque<>(3);
+        assert deque.capacity() == 4;
+
+        deque.pushBack(2);
+        deque.pushBack(3);
+        deque.pushFront(1);
+        deque.pushFront(0);
+        assert deque.capacity() == 4;
+
+        // Wrapped around the end of the array, growing unwraps it.
+        deque.pushBack(4);
+        assert deque.capacity() == 8;
+        for(int i = 0; i < 5; i = i + 1){
+            assert deque.get(i) == i;
+        }
+        assert deque.getFront() == 0 && deque.getBack() == 4;
+
+        deque.popFront();
+        deque.popBack();
+        assert deque.size() == 3;
+        assert deque.getFront() == 1 && deque.getBack() == 3;
+
+        deque.set(1, 20);
+        assert deque.get(1) == 20;
+
+        deque.clear();
+        assert deque.isEmpty();
+        boolean thrown = false;
+        try{
+            deque.popFront();
+        }catch(NoSuchElementException e){
+            thrown = true;
+        }
+        assert thrown;
+
+        thrown = false;
+        try{
+            deque.get(0);
+        }catch(IndexOutOfBoundsException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testCapacity(){
+        Deque<Integer> deque = new Deque<>(0);
+        assert deque.capacity() == 1;
+
+        for(int i = 0; i < 100; i = i + 1){
+            deque.pushFront(i);
+        }
+        assert deque.capacity() == 128;
+
+        deque.reserve(129);
+        assert deque.capacity() == 256;
+        deque.reserve(10);
+        assert deque.capacity() == 256;
+
+        for(int i = 0; i < 60; i = i + 1){
+            deque.popBack();
+        }
+        deque.shrinkToFit();
+        assert deque.capacity() == 64;
+        assert deque.size() == 40;
+        for(int i = 0; i < 40; i = i + 1){
+            assert deque.get(i) == 99 - i;
+        }
+    }
+
+    @Test
+    public void testIterators(){
+        Deque<Integer> deque = new Deque<>(8);
+        for(int i = 0; i < 6; i = i + 1){
+            deque.pushBack(i);
+        }
+        // Move the contents across the end of the array.
+        for(int i = 0; i < 4; i = i + 1){
+            deque.popFront();
+            deque.pushBack(i + 6);
+        }
+
+        List<Integer> values = new ArrayList<>();
+        for(Integer v : deque){
+            values.add(v);
+        }
+        assert values.equals(List.of(4, 5, 6, 7, 8, 9));
+
+        RandomAccessIterator<Integer> it = deque.begin().add(3);
+        assert it.get() == 7;
+        assert deque.begin().distance(deque.end()) == 6;
+        it.advance(2);
+        it.set(90);
+        assert deque.getBack() == 90;
+        assert it.inc().equals(deque.end());
+
+        Cursor<Integer> cursor = deque.cursor();
+        int expected = 5;
+        for(cursor.toBack(); cursor.isValid(); cursor.dec()){
+            assert cursor.get().equals(deque.get(expected));
+            expected = expected - 1;
+        }
+        assert expected == -1;
+
+        assert deque.stream().mapToInt(Integer::intValue).sum() == 4 + 5 + 6 + 7 + 8 + 90;
+    }
+
+    @Test
+    public void testAgainstArrayDeque(){
+        Deque<Integer> deque = new Deque<>(1);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(3);
+
+        for(int i = 0; i < 100_000; i = i + 1){
+            switch(random.nextInt(4)){
+                case 0 -> {
+                    deque.pushFront(i);
+                    expected.addFirst(i);
+                }
+                case 1 -> {
+                    deque.pushBack(i);
+                    expected.addLast(i);
+                }
+                case 2 -> {
+                    if(!expected.isEmpty()){
+                        assert deque.getFront().equals(expected.pollFirst());
+                        deque.popFront();
+                    }
+                }
+                default -> {
+                    if(!expected.isEmpty()){
+                        assert deque.getBack().equals(expected.pollLast());
+                        deque.popBack();
+                    }
+                }
+            }
+            assert deque.size() == expected.size();
+        }
+
+        int i = 0;
+        for(Integer v : expected){
+            assert deque.get(i).equals(v);
+            i = i + 1;
+        }
+    }
+}
@@ -1,8 +1,16 @@
 import rul.iterator.BidirectionalIterator;
+import rul.iterator.ReverseBidirectionalIterator;
+import rul.iterator.Cursor;
 import rul.container.DoublyLinkedList;
+import rul.container.Vector;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class DoublyLinkedListTest {
 
@@ -125,6 +133,336 @@ public class DoublyLinkedListTest {
         assert list.size() == 4;
     }
 
+    @Test
+    public void testNodeRecycling(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(2);
+
+        for(int i = 0; i < 100; i = i + 1){
+            list.pushBack(i);
+            list.pushBack(i + 1);
+            list.pushFront(i - 1);
+            assert list.getFront() == i - 1;
+            assert list.getBack() == i + 1;
+            list.popFront();
+            list.popBack();
+            list.popFront();
+            assert list.isEmpty();
+        }
+
+        list.pushBack(1);
+        list.pushBack(2);
+        list.pushBack(3);
+        list.pushBack(4);
+        BidirectionalIterator<Integer> second = list.begin();
+        second.inc();
+        BidirectionalIterator<Integer> fourth = list.end();
+        fourth.dec();
+        list.erase(second, fourth);
+        list.insertAfter(list.begin(), 5);
+
+        BidirectionalIterator<Integer> it = list.begin();
+        assert it.next() == 1;
+        assert it.next() == 5;
+        assert it.next() == 4;
+        assert !it.hasNext();
+        assert list.size() == 3;
+
+        boolean thrown = false;
+        try{
+            new DoublyLinkedList<Integer>(-1);
+        }catch(IllegalArgumentException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testStreams(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for(int i = 0; i < 100000; i = i + 1){
+            list.pushBack(i);
+        }
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        assert spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED);
+        assert spliterator.getExactSizeIfKnown() == 100000;
+
+        Spliterator<Integer> batch = spliterator.trySplit();
+        assert batch.getExactSizeIfKnown() == 1024;
+        assert spliterator.getExactSizeIfKnown() == 100000 - 1024;
+        assert spliterator.trySplit().getExactSizeIfKnown() == 2048;
+
+        assert list.stream().mapToLong(Integer::longValue).sum() == 4999950000L;
+        assert list.parallelStream().mapToLong(Integer::longValue).sum() == 4999950000L;
+        assert list.parallelStream().collect(Collectors.toList()).equals(
+                IntStream.range(0, 100000).boxed().collect(Collectors.toList()));
+        assert new DoublyLinkedList<Integer>().parallelStream().count() == 0;
+    }
+
+    @Test
+    public void testCursorForEach(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        Cursor<Integer> cursor = list.cursor();
+        assert !cursor.toFront().isValid();
+        assert !cursor.toBack().isValid();
+
+        for(int i = 0; i < 5; i = i + 1){
+            list.pushBack(i);
+        }
+
+        int expected = 0;
+        for(cursor.toFront(); cursor.isValid(); cursor.inc()){
+            assert cursor.get() == expected++;
+        }
+        assert expected == 5;
+
+        for(cursor.toBack(); cursor.isValid(); cursor.dec()){
+            assert cursor.get() == --expected;
+        }
+        assert expected == 0;
+
+        List<Integer> forward = new ArrayList<>();
+        list.forEach(forward::add);
+        assert forward.equals(List.of(0, 1, 2, 3, 4));
+
+        List<Integer> backward = new ArrayList<>();
+        list.forEachReverse(backward::add);
+        assert backward.equals(List.of(4, 3, 2, 1, 0));
+
+        cursor.toFront().inc();
+        list.erase(cursor);
+        assert list.size() == 4;
+    }
+
+    @Test
+    public void testSplice(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for(int i = 0; i < 6; i = i + 1){
+            list.pushBack(i);
+        }
+
+        // Move [1,3) after 4 within the list.
+        BidirectionalIterator<Integer> first = list.begin();
+        first.inc();
+        BidirectionalIterator<Integer> last = list.begin();
+        for(int i = 0; i < 3; i = i + 1){
+            last.inc();
+        }
+        BidirectionalIterator<Integer> four = list.begin();
+        for(int i = 0; i < 4; i = i + 1){
+            four.inc();
+        }
+        list.splice(four, list, first, last, 2);
+        assertContents(list, 0, 3, 4, 1, 2, 5);
+
+        // Move the tail to the front, then the head back to the tail.
+        list.splice(list.end(), list, list.reverseBegin());
+        assertContents(list, 5, 0, 3, 4, 1, 2);
+        list.splice(list.reverseBegin(), list, list.begin());
+        assertContents(list, 0, 3, 4, 1, 2, 5);
+
+        DoublyLinkedList<Integer> other = new DoublyLinkedList<>();
+        other.pushBack(100);
+        other.pushBack(200);
+        other.pushBack(300);
+
+        // Single node between lists.
+        list.splice(list.begin(), other, other.begin());
+        assertContents(list, 0, 100, 3, 4, 1, 2, 5);
+        assertContents(other, 200, 300);
+
+        // Range up to end() after the tail.
+        list.splice(list.reverseBegin(), other, other.begin(), other.end(), 2);
+        assertContents(list, 0, 100, 3, 4, 1, 2, 5, 200, 300);
+        assert other.isEmpty() && other.size() == 0;
+
+        // Whole list into an empty list, then back after the tail.
+        other.splice(other.end(), list);
+        assertContents(other, 0, 100, 3, 4, 1, 2, 5, 200, 300);
+        assert list.isEmpty() && list.size() == 0;
+
+        list.pushBack(-1);
+        list.splice(list.begin(), other);
+        assertContents(list, -1, 0, 100, 3, 4, 1, 2, 5, 200, 300);
+        assert other.isEmpty();
+
+        other.pushBack(7);
+        other.splice(other.begin(), other);
+        assertContents(other, 7);
+    }
+
+    @Test
+    public void testDeferredSize(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        DoublyLinkedList<Integer> other = new DoublyLinkedList<>();
+        for(int i = 0; i < 10; i = i + 1){
+            list.pushBack(i);
+        }
+
+        // Hand batches of three over without counting them.
+        while(!list.isEmpty()){
+            BidirectionalIterator<Integer> last = list.begin();
+            for(int i = 0; i < 3 && last.hasNext(); i = i + 1){
+                last.inc();
+            }
+            other.splice(other.reverseBegin(), list, list.begin(), last);
+            other.pushBack(-1);
+            other.popBack();
+        }
+
+        assert list.size() == 0;
+        assert other.size() == 10;
+        assertContents(other, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // Deferred counting carries over to lists the elements are spliced into.
+        BidirectionalIterator<Integer> mid = other.begin();
+        for(int i = 0; i < 4; i = i + 1){
+            mid.inc();
+        }
+        list.splice(list.end(), other, mid, other.end());
+        DoublyLinkedList<Integer> third = new DoublyLinkedList<>();
+        third.splice(third.end(), list);
+        assert third.size() == 6;
+        assert other.size() == 4;
+        assert other.stream().count() == 4;
+    }
+
+    @Test
+    public void testDrain(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(List.of(0, 1, 2, 3, 4, 5, 6));
+        assert list.size() == 7;
+
+        List<Integer> batch = new ArrayList<>();
+        assert list.drainTo(batch, 3) == 3;
+        assert batch.equals(List.of(0, 1, 2));
+        assertContents(list, 3, 4, 5, 6);
+
+        assert list.drainTo(batch, 0) == 0;
+        assert list.drainTo(batch, 10) == 4;
+        assert batch.equals(List.of(0, 1, 2, 3, 4, 5, 6));
+        assert list.isEmpty();
+
+        DoublyLinkedList<Integer> pooled = new DoublyLinkedList<>(2);
+        for(int i = 0; i < 5; i = i + 1){
+            pooled.pushBack(i);
+        }
+        Vector<Integer> vector = new Vector<>();
+        vector.pushBack(-1);
+        assert pooled.drainTo(vector) == 5;
+        assert pooled.isEmpty() && pooled.size() == 0;
+        assert vector.size() == 6 && vector.get(5) == 4;
+
+        pooled.pushBack(10);
+        pooled.pushFront(9);
+        pooled.pushBack(11);
+        assertContents(pooled, 9, 10, 11);
+    }
+
+    @Test
+    public void testBatchPop(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(4);
+        for(int i = 0; i < 10; i = i + 1){
+            list.pushBack(i);
+        }
+
+        List<Integer> taken = new ArrayList<>();
+        assert list.popFront(3, taken::add) == 3;
+        assert taken.equals(List.of(0, 1, 2));
+        assertContents(list, 3, 4, 5, 6, 7, 8, 9);
+
+        assert list.popBack(2) == 2;
+        assertContents(list, 3, 4, 5, 6, 7);
+
+        DoublyLinkedList<Integer> prefix = list.detachPrefix(2);
+        assertContents(prefix, 3, 4);
+        assertContents(list, 5, 6, 7);
+
+        // An action that throws keeps what was taken so far removed.
+        boolean thrown = false;
+        try{
+            list.popFront(3, t -> {
+                if(t == 6){
+                    throw new IllegalStateException();
+                }
+            });
+        }catch(IllegalStateException e){
+            thrown = true;
+        }
+        assert thrown;
+        assertContents(list, 7);
+
+        assert list.popFront(5, taken::add) == 1;
+        assert list.isEmpty() && list.size() == 0;
+        assert list.popFront(5, taken::add) == 0;
+        assert list.popBack(1) == 0;
+        assert list.detachPrefix(3).isEmpty();
+
+        assert prefix.detachPrefix(10).size() == 2;
+        assert prefix.isEmpty();
+
+        for(int i = 0; i < 4; i = i + 1){
+            list.pushFront(i);
+        }
+        assert list.popBack(4) == 4;
+        assert list.isEmpty();
+        list.pushBack(1);
+        assertContents(list, 1);
+    }
+
+    @Test
+    public void testReverseErase(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(List.of(0, 1, 2, 3, 4, 5));
+
+        // Erase the odd elements walking backwards, each victim is a clone the loop has moved past.
+        BidirectionalIterator<Integer> it = list.reverseBegin();
+        while(!it.equals(list.reverseEnd())){
+            BidirectionalIterator<Integer> victim = (BidirectionalIterator<Integer>) it.clone();
+            it.inc();
+            if(victim.get() % 2 == 1){
+                list.erase(victim);
+            }
+        }
+        assertContents(list, 0, 2, 4);
+
+        list.insertAfter(list.reverseBegin(), 6);
+        assertContents(list, 0, 2, 4, 6);
+
+        boolean thrown = false;
+        try{
+            list.erase(new Vector<>(List.of(1)).begin());
+        }catch(IllegalArgumentException e){
+            thrown = true;
+        }
+        assert thrown;
+
+        // A reverse wrapper over a foreign iterator is rejected the same way.
+        thrown = false;
+        try{
+            list.insertBefore(new ReverseBidirectionalIterator<>(new Vector<>(List.of(1)).begin()), 8);
+        }catch(IllegalArgumentException e){
+            thrown = true;
+        }
+        assert thrown;
+        assertContents(list, 0, 2, 4, 6);
+    }
+
+    private static void assertContents(DoublyLinkedList<Integer> list, int... expected){
+        assert list.size() == expected.length;
+        int i = 0;
+        for(Integer value : list){
+            assert value == expected[i];
+            i = i + 1;
+        }
+        assert i == expected.length;
+
+        List<Integer> reversed = new ArrayList<>();
+        list.forEachReverse(reversed::add);
+        assert reversed.size() == expected.length;
+        for(i = 0; i < expected.length; i = i + 1){
+            assert reversed.get(i) == expected[expected.length - 1 - i];
+        }
+    }
+
     @Test
     public void speedComparison(){
         LinkedList<Integer> list1 = new LinkedList<>();
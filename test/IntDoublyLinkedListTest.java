@@ -0,0 +1,158 @@
+import org.junit.jupiter.api.Test;
+import rul.container.IntDoublyLinkedList;
+import rul.iterator.IntBidirectionalIterator;
+
+import java.util.NoSuchElementException;
+
+public class IntDoublyLinkedListTest {
+
+    private static void assertContents(IntDoublyLinkedList list, int... expected){
+        assert list.size() == expected.length;
+
+        IntBidirectionalIterator it = list.begin();
+        for(int t : expected){
+            assert it.nextInt() == t;
+        }
+        assert !it.hasNext();
+
+        it = list.reverseBegin();
+        for(int i = expected.length - 1; i >= 0; i = i - 1){
+            assert it.nextInt() == expected[i];
+        }
+        assert !it.hasNext();
+    }
+
+    @Test
+    public void testPush(){
+        IntDoublyLinkedList list = new IntDoublyLinkedList(1);
+        list.pushFront(10);
+        list.pushBack(20);
+        list.pushBack(30);
+        list.pushFront(1);
+
+        assertContents(list, 1, 10, 20, 30);
+        assert list.getFront() == 1;
+        assert list.getBack() == 30;
+        assert list.capacity() >= 4;
+
+        list.popFront();
+        list.popBack();
+        assertContents(list, 10, 20);
+    }
+
+    @Test
+    public void testFreeListReuse(){
+        IntDoublyLinkedList list = new IntDoublyLinkedList(4);
+        for(int i = 0; i < 1000; i = i + 1){
+            list.pushBack(i);
+            list.pushBack(i);
+            list.popFront();
+            list.popFront();
+        }
+        assert list.isEmpty();
+        assert list.capacity() == 4;
+
+        list.pushBack(1);
+        list.clear();
+        assert list.isEmpty();
+        list.pushBack(2);
+        assertContents(list, 2);
+    }
+
+    @Test
+    public void testInsertErase(){
+        IntDoublyLinkedList list = new IntDoublyLinkedList();
+        list.pushBack(10);
+        IntBidirectionalIterator it = list.begin();
+
+        list.insertAfter(it, 30);
+        IntBidirectionalIterator twenty = list.insertAfter(it, 20);
+        list.insertBefore(it, 0);
+        assertContents(list, 0, 10, 20, 30);
+
+        IntBidirectionalIterator thirty = list.erase(twenty);
+        assert thirty.getInt() == 30;
+        assertContents(list, 0, 10, 30);
+
+        list.erase(it, list.end());
+        assertContents(list, 0);
+
+        boolean thrown = false;
+        try{
+            list.erase(new IntDoublyLinkedList().end());
+        }catch(IllegalArgumentException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testEnd(){
+        IntDoublyLinkedList list = new IntDoublyLinkedList();
+        list.insertBefore(list.end(), 1);
+        list.insertBefore(list.end(), 2);
+        assertContents(list, 1, 2);
+
+        boolean thrown = false;
+        try{
+            list.insertAfter(list.end(), 3);
+        }catch(NoSuchElementException e){
+            thrown = true;
+        }
+        assert thrown;
+
+        thrown = false;
+        try{
+            list.erase(list.end());
+        }catch(NoSuchElementException e){
+            thrown = true;
+        }
+        assert thrown;
+
+        thrown = false;
+        try{
+            list.splice(list.end(), list, list.begin());
+        }catch(NoSuchElementException e){
+            thrown = true;
+        }
+        assert thrown;
+        assertContents(list, 1, 2);
+    }
+
+    @Test
+    public void testSplice(){
+        IntDoublyLinkedList list = new IntDoublyLinkedList();
+        for(int i = 0; i < 6; i = i + 1){
+            list.pushBack(i);
+        }
+
+        // Move [1,3) after 4 within the list.
+        IntBidirectionalIterator first = list.begin().inc();
+        IntBidirectionalIterator last = first.clone().inc().inc();
+        IntBidirectionalIterator four = last.clone().inc();
+        list.splice(four, list, first, last);
+        assertContents(list, 0, 3, 4, 1, 2, 5);
+
+        // Move the tail to the front.
+        IntBidirectionalIterator five = list.reverseBegin();
+        list.splice(list.begin(), list, five);
+        assertContents(list, 0, 5, 3, 4, 1, 2);
+
+        IntDoublyLinkedList other = new IntDoublyLinkedList();
+        other.pushBack(100);
+        other.pushBack(200);
+        other.pushBack(300);
+
+        list.splice(list.reverseBegin(), other, other.begin().inc(), other.end());
+        assertContents(list, 0, 5, 3, 4, 1, 2, 200, 300);
+        assertContents(other, 100);
+
+        list.splice(list.begin(), other);
+        assertContents(list, 0, 100, 5, 3, 4, 1, 2, 200, 300);
+        assert other.isEmpty();
+
+        list.swap(other);
+        assert list.isEmpty();
+        assert other.size() == 9;
+    }
+}
@@ -0,0 +1,104 @@
+import org.junit.jupiter.api.Test;
+import rul.container.DoublyLinkedList;
+import rul.container.Vector;
+import rul.iterator.BidirectionalIterator;
+import rul.iterator.ForwardIterator;
+import rul.iterator.Iterators;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class IteratorsTest {
+
+    @Test
+    public void testChain(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>(List.of(5, -1, 3, 8, -4, 2, 7, 0, 9));
+        List<Integer> calls = new ArrayList<>();
+
+        ForwardIterator<String> it = Iterators.take(
+                Iterators.map(
+                        Iterators.filter(list.begin(), t -> {
+                            calls.add(t);
+                            return t > 0;
+                        }),
+                        t -> "<" + (t * 2) + ">"),
+                3);
+
+        // Nothing is evaluated until asked for.
+        assert calls.isEmpty();
+        assert collect(it).equals(List.of("<10>", "<6>", "<16>"));
+        // The filter stopped right after the third match.
+        assert calls.equals(List.of(5, -1, 3, 8));
+    }
+
+    @Test
+    public void testFusion(){
+        Vector<Integer> vector = new Vector<>(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+
+        ForwardIterator<Integer> mapped = Iterators.map(Iterators.map(vector.begin(), t -> t + 1), t -> t * 10);
+        assert collect(mapped).equals(List.of(20, 30, 40, 50, 60, 70, 80, 90, 100, 110));
+
+        ForwardIterator<Integer> filtered = Iterators.filter(Iterators.filter(vector.begin(), t -> t % 2 == 0),
+                t -> t % 3 == 0);
+        assert collect(filtered).equals(List.of(6));
+    }
+
+    @Test
+    public void testRangeSkipZipConcat(){
+        Vector<Integer> vector = new Vector<>(List.of(0, 1, 2, 3, 4, 5));
+        DoublyLinkedList<String> names = new DoublyLinkedList<>(List.of("a", "b", "c"));
+
+        assert collect(Iterators.range(vector.begin().add(1), vector.begin().add(4))).equals(List.of(1, 2, 3));
+        assert collect(Iterators.skip(vector.begin(), 4)).equals(List.of(4, 5));
+        assert collect(Iterators.skip(vector.begin(), 10)).isEmpty();
+        assert collect(Iterators.take(vector.begin(), 0)).isEmpty();
+
+        ForwardIterator<String> zipped = Iterators.zip(names.begin(), Iterators.skip(vector.begin(), 2),
+                (n, i) -> n + i);
+        assert collect(zipped).equals(List.of("a2", "b3", "c4"));
+
+        ForwardIterator<Integer> concat = Iterators.concat(Iterators.take(vector.begin(), 2),
+                Iterators.skip(vector.begin(), 5));
+        assert collect(concat).equals(List.of(0, 1, 5));
+
+        // Writes go through to the container.
+        ForwardIterator<Integer> odd = Iterators.filter(vector.begin(), t -> t % 2 == 1);
+        while(odd.hasNext()){
+            odd.set(-odd.get());
+            odd.inc();
+        }
+        assert collect(vector.begin()).equals(List.of(0, -1, 2, -3, 4, -5));
+    }
+
+    @Test
+    public void testBidirectional(){
+        Vector<Integer> vector = new Vector<>(List.of(1, 2, 3, 4, 5, 6));
+
+        BidirectionalIterator<Integer> even = Iterators.filter(vector.begin(), t -> t % 2 == 0);
+        assert even.next() == 2;
+        assert even.next() == 4;
+        assert even.hasPrevious();
+        assert even.previous() == 4;
+        assert even.previous() == 2;
+        assert !even.hasPrevious();
+
+        BidirectionalIterator<Integer> squares = Iterators.map(vector.end(), t -> t * t);
+        List<Integer> reversed = new ArrayList<>();
+        while(squares.hasPrevious()){
+            reversed.add(squares.previous());
+        }
+        assert reversed.equals(List.of(36, 25, 16, 9, 4, 1));
+
+        ForwardIterator<Integer> copy = Iterators.map(vector.begin(), t -> -t).clone();
+        copy.inc();
+        assert copy.get() == -2;
+    }
+
+    private static <T> List<T> collect(ForwardIterator<T> it){
+        List<T> list = new ArrayList<>();
+        while(it.hasNext()){
+            list.add(it.next());
+        }
+        return list;
+    }
+}
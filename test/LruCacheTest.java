@@ -0,0 +1,122 @@
+import org.junit.jupiter.api.Test;
+import rul.container.LruCache;
+import rul.iterator.BidirectionalIterator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class LruCacheTest {
+
+    @Test
+    public void testEviction(){
+        List<String> evicted = new ArrayList<>();
+        LruCache<String, Integer> cache = new LruCache<>(3, (k, v) -> evicted.add(k + "=" + v));
+
+        assert cache.put("a", 1) == null;
+        cache.put("b", 2);
+        cache.put("c", 3);
+        assert cache.size() == 3 && cache.capacity() == 3;
+        assert cache.eldestKey().equals("a");
+
+        // Touching a makes b the eldest.
+        assert cache.get("a") == 1;
+        cache.put("d", 4);
+        assert evicted.equals(List.of("b=2"));
+        assert !cache.containsKey("b");
+        assert cache.size() == 3;
+
+        // peek doesn't reorder, put of an existing key does.
+        assert cache.peek("c") == 3;
+        assert cache.put("c", 30) == 3;
+        cache.put("e", 5);
+        assert evicted.equals(List.of("b=2", "a=1"));
+
+        List<Integer> values = new ArrayList<>();
+        for(Integer v : cache){
+            values.add(v);
+        }
+        assert values.equals(List.of(5, 30, 4));
+
+        BidirectionalIterator<Integer> it = cache.end();
+        assert it.previous() == 4;
+
+        assert cache.remove("c") == 30;
+        assert cache.remove("c") == null;
+        assert cache.size() == 2;
+        assert evicted.size() == 2;
+
+        assert cache.evictEldest();
+        assert evicted.get(2).equals("d=4");
+
+        cache.clear();
+        assert cache.isEmpty();
+        assert !cache.evictEldest();
+        cache.put("x", 1);
+        assert cache.get("x") == 1;
+    }
+
+    @Test
+    public void testCollidingKeys(){
+        LruCache<Colliding, Integer> cache = new LruCache<>(8);
+        for(int i = 0; i < 8; i = i + 1){
+            cache.put(new Colliding(i), i);
+        }
+
+        // Removing from the middle of one long probe sequence must keep the rest reachable.
+        cache.remove(new Colliding(3));
+        cache.remove(new Colliding(0));
+        for(int i = 0; i < 8; i = i + 1){
+            assert (cache.get(new Colliding(i)) != null) == (i != 0 && i != 3);
+        }
+
+        cache.put(new Colliding(10), 10);
+        cache.put(new Colliding(11), 11);
+        cache.put(new Colliding(12), 12);
+        assert cache.size() == 8;
+        assert cache.peek(new Colliding(10)) == 10;
+        assert cache.peek(new Colliding(12)) == 12;
+    }
+
+    @Test
+    public void testAgainstLinkedHashMap(){
+        final int capacity = 50;
+        Map<Integer, Integer> expected = new LinkedHashMap<>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+        LruCache<Integer, Integer> cache = new LruCache<>(capacity);
+
+        Random random = new Random(17);
+        for(int i = 0; i < 100_000; i = i + 1){
+            int key = random.nextInt(200);
+            switch(random.nextInt(3)){
+                case 0 -> {
+                    assert java.util.Objects.equals(cache.put(key, i), expected.put(key, i));
+                }
+                case 1 -> {
+                    assert java.util.Objects.equals(cache.get(key), expected.get(key));
+                }
+                default -> {
+                    assert java.util.Objects.equals(cache.remove(key), expected.remove(key));
+                }
+            }
+            assert cache.size() == expected.size();
+        }
+
+        List<Integer> order = new ArrayList<>();
+        cache.forEach((k, v) -> order.add(0, k));
+        assert order.equals(new ArrayList<>(expected.keySet()));
+    }
+
+    private record Colliding(int id) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
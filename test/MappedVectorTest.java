@@ -0,0 +1,149 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import rul.container.MappedDoubleVector;
+import rul.container.MappedLongVector;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+public class MappedVectorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testReopen() throws IOException {
+        Path path = dir.resolve("longs");
+        try(MappedLongVector vector = new MappedLongVector(path, 0, 64)){
+            for(long i = 0; i < 100; i = i + 1){
+                vector.pushBack(i * 3);
+            }
+            vector.popBack();
+            vector.set(0, -7);
+        }
+
+        try(MappedLongVector vector = new MappedLongVector(path, 0, 64)){
+            assert vector.longSize() == 99;
+            assert vector.get(0) == -7;
+            for(long i = 1; i < 99; i = i + 1){
+                assert vector.get(i) == i * 3;
+            }
+
+            vector.pushBack(1000);
+            vector.shrinkToFit();
+            assert vector.capacity() == 104;
+        }
+
+        // A different block size maps the same file layout.
+        try(MappedLongVector vector = new MappedLongVector(path)){
+            assert vector.longSize() == 100;
+            assert vector.get(99) == 1000;
+            assert vector.begin().add(50).getLong() == 150;
+            vector.clear();
+        }
+
+        try(MappedLongVector vector = new MappedLongVector(path)){
+            assert vector.isEmpty();
+        }
+    }
+
+    @Test
+    public void testTypeMismatch() throws IOException {
+        Path path = dir.resolve("doubles");
+        try(MappedDoubleVector vector = new MappedDoubleVector(path)){
+            vector.pushBack(0.5);
+            vector.force();
+        }
+
+        boolean thrown = false;
+        try(MappedLongVector vector = new MappedLongVector(path)){
+            vector.pushBack(1);
+        }catch(IOException e){
+            thrown = true;
+        }
+        assert thrown;
+
+        try(MappedDoubleVector vector = new MappedDoubleVector(path)){
+            assert vector.longSize() == 1 && vector.get(0) == 0.5;
+        }
+    }
+
+    @Test
+    public void testElementWrittenWithoutSize() throws IOException {
+        Path path = dir.resolve("torn");
+        try(MappedLongVector vector = new MappedLongVector(path)){
+            for(long i = 0; i < 10; i = i + 1){
+                vector.pushBack(i);
+            }
+        }
+
+        // What an append interrupted between writing the element and the size leaves behind.
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)){
+            ByteBuffer element = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 42);
+            channel.write(element, 64 + 10 * Long.BYTES);
+        }
+
+        try(MappedLongVector vector = new MappedLongVector(path)){
+            assert vector.longSize() == 10;
+            vector.pushBack(10);
+            assert vector.get(10) == 10;
+        }
+    }
+
+    @Test
+    public void testCrashMidAppend() throws Exception {
+        Path path = dir.resolve("crash");
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                Writer.class.getName(), path.toString())
+                .inheritIO()
+                .start();
+
+        try{
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            while(storedSize(path) < 100_000 && process.isAlive() && System.nanoTime() < deadline){
+                Thread.sleep(10);
+            }
+        }finally{
+            process.destroyForcibly().waitFor();
+        }
+
+        try(MappedLongVector vector = new MappedLongVector(path, 0, 1 << 16)){
+            assert vector.longSize() >= 100_000;
+            for(long i = 0; i < vector.longSize(); i = i + 1){
+                assert vector.get(i) == i;
+            }
+        }
+    }
+
+    private static long storedSize(Path path) throws IOException {
+        if(!Files.exists(path) || Files.size(path) < 64){
+            return 0;
+        }
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+            ByteBuffer size = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(size, 16);
+            return size.getLong(0);
+        }
+    }
+
+    /**
+     * Appends to the vector at args[0] until killed.
+     */
+    public static class Writer {
+        public static void main(String[] args) throws IOException {
+            try(MappedLongVector vector = new MappedLongVector(Path.of(args[0]), 0, 1 << 16)){
+                for(long i = 0; i < 20_000_000; i = i + 1){
+                    vector.pushBack(i);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+import org.junit.jupiter.api.Test;
+import rul.algorithm.Merge;
+import rul.container.DoublyLinkedList;
+import rul.container.Vector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class MergeTest {
+
+    private record Tagged(int key, char source){}
+
+    private static final Comparator<Tagged> BY_KEY = Comparator.comparingInt(Tagged::key);
+
+    private static Vector<Tagged> vector(char source, int... keys){
+        Vector<Tagged> vector = new Vector<>();
+        for(int key : keys){
+            vector.pushBack(new Tagged(key, source));
+        }
+        return vector;
+    }
+
+    private static DoublyLinkedList<Tagged> list(char source, int... keys){
+        DoublyLinkedList<Tagged> list = new DoublyLinkedList<>();
+        for(int key : keys){
+            list.pushBack(new Tagged(key, source));
+        }
+        return list;
+    }
+
+    private static String render(List<Tagged> tagged){
+        StringBuilder sb = new StringBuilder();
+        for(Tagged t : tagged){
+            sb.append(t.key()).append(t.source()).append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    @Test
+    public void testMerge(){
+        Vector<Tagged> a = vector('a', 1, 3, 3, 5, 9);
+        DoublyLinkedList<Tagged> b = list('b', 0, 3, 4, 9, 9, 12);
+
+        List<Tagged> out = new ArrayList<>();
+        Merge.merge(a.begin(), a.end(), b.begin(), b.end(), out::add, BY_KEY);
+        assert render(out).equals("0b 1a 3a 3a 3b 4b 5a 9a 9b 9b 12b");
+
+        Vector<Tagged> merged = new Vector<>();
+        Merge.merge(a.begin(), a.end(), a.end(), a.end(), merged::pushBack, BY_KEY);
+        assert merged.size() == 5;
+    }
+
+    @Test
+    public void testSetOperations(){
+        Vector<Tagged> a = vector('a', 1, 3, 3, 5, 9);
+        DoublyLinkedList<Tagged> b = list('b', 0, 3, 4, 9, 9, 12);
+
+        List<Tagged> out = new ArrayList<>();
+        Merge.setUnion(a.begin(), a.end(), b.begin(), b.end(), out::add, BY_KEY);
+        assert render(out).equals("0b 1a 3a 3a 4b 5a 9a 9b 12b");
+
+        out.clear();
+        Merge.setIntersection(a.begin(), a.end(), b.begin(), b.end(), out::add, BY_KEY);
+        assert render(out).equals("3a 9a");
+
+        out.clear();
+        Merge.setIntersection(b.begin(), b.end(), b.end(), b.end(), out::add, BY_KEY);
+        assert out.isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+import org.junit.jupiter.api.Test;
+import rul.container.OffHeapDoubleVector;
+import rul.container.OffHeapLongVector;
+import rul.iterator.DoubleRandomAccessIterator;
+import rul.iterator.LongRandomAccessIterator;
+
+public class OffHeapVectorTest {
+
+    @Test
+    public void testPushBackGrowth(){
+        try(OffHeapLongVector vector = new OffHeapLongVector()){
+            for(int i = 0; i < 1000; i = i + 1){
+                vector.pushBack(i);
+            }
+
+            assert vector.longSize() == 1000;
+            assert vector.size() == 1000;
+            assert vector.capacity() >= 1000;
+            for(int i = 0; i < 1000; i = i + 1){
+                assert vector.get(i) == i;
+            }
+
+            vector.shrinkToFit();
+            assert vector.capacity() == 1000;
+
+            vector.reserve(5000);
+            assert vector.capacity() == 5000;
+            assert vector.longSize() == 1000;
+            assert vector.get(999) == 999;
+        }
+    }
+
+    @Test
+    public void testChunks(){
+        // 8 elements per block, so most of the vector lives past the first one.
+        try(OffHeapLongVector vector = new OffHeapLongVector(3, 64)){
+            for(long i = 0; i < 100; i = i + 1){
+                vector.pushBack(i * i);
+            }
+
+            assert vector.capacity() == 104;
+            for(long i = 0; i < 100; i = i + 1){
+                assert vector.get(i) == i * i;
+            }
+
+            vector.set(50, -1);
+            assert vector.get(50) == -1;
+            assert vector.get(49) == 49 * 49;
+
+            vector.reserve(1000);
+            assert vector.capacity() == 1000;
+            vector.shrinkToFit();
+            assert vector.capacity() == 104;
+
+            while(vector.longSize() > 5){
+                vector.popBack();
+            }
+            vector.shrinkToFit();
+            assert vector.capacity() == 5;
+            assert vector.get(4) == 16;
+
+            boolean thrown = false;
+            try{
+                vector.get(5);
+            }catch(IndexOutOfBoundsException e){
+                thrown = true;
+            }
+            assert thrown;
+        }
+    }
+
+    @Test
+    public void testIterators(){
+        try(OffHeapDoubleVector vector = new OffHeapDoubleVector(0, 32)){
+            for(int i = 0; i < 20; i = i + 1){
+                vector.pushBack(i / 2.0);
+            }
+
+            DoubleRandomAccessIterator it = vector.begin();
+            int count = 0;
+            while(it.hasNext()){
+                assert it.nextDouble() == count / 2.0;
+                count = count + 1;
+            }
+            assert count == 20;
+            assert it.equals(vector.end());
+            assert vector.begin().distance(vector.end()) == 20;
+
+            DoubleRandomAccessIterator mid = vector.begin().add(13);
+            assert mid.getDouble() == 6.5;
+            mid.setDouble(100);
+            assert vector.get(13) == 100;
+            mid.advance(-10);
+            assert mid.previousDouble() == 1.0;
+
+            assert vector.stream().mapToDouble(Double::doubleValue).sum() == 95 - 6.5 + 100;
+        }
+    }
+
+    @Test
+    public void testClose(){
+        OffHeapLongVector vector = new OffHeapLongVector(16);
+        vector.pushBack(1);
+        LongRandomAccessIterator it = vector.begin();
+        vector.close();
+        vector.close();
+
+        assert vector.isClosed();
+        assert vector.isEmpty();
+        assert !it.hasNext();
+
+        boolean thrown = false;
+        try{
+            vector.pushBack(2);
+        }catch(IllegalStateException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+}
@@ -0,0 +1,155 @@
+import org.junit.jupiter.api.Test;
+import rul.container.PersistentVector;
+import rul.container.Vector;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void testPushPop(){
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+        for(int i = 0; i < 40_000; i = i + 1){
+            versions.add(vector);
+            vector = vector.pushBack(i);
+        }
+        assert vector.size() == 40_000;
+        for(int i = 0; i < 40_000; i = i + 1){
+            assert vector.get(i) == i;
+        }
+        assert vector.getFront() == 0 && vector.getBack() == 39_999;
+
+        // Older versions are untouched.
+        for(int n : new int[]{0, 1, 31, 32, 33, 1056, 1057, 33_824}){
+            assert versions.get(n).size() == n;
+            assert n == 0 || versions.get(n).get(n - 1) == n - 1;
+        }
+
+        for(int i = 39_999; i >= 0; i = i - 1){
+            assert vector.getBack() == i;
+            vector = vector.popBack();
+            assert vector.size() == i;
+            if(i % 977 == 0 && i > 0){
+                assert vector.get(i - 1) == i - 1 && vector.get(0) == 0;
+            }
+        }
+        assert vector.isEmpty();
+
+        boolean thrown = false;
+        try{
+            vector.popBack();
+        }catch(NoSuchElementException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testSet(){
+        PersistentVector<Integer> original = PersistentVector.copyOf(IntStream.range(0, 5000).boxed()
+                .collect(Collectors.toList()));
+        PersistentVector<Integer> changed = original;
+        Random random = new Random(7);
+        int[] expected = IntStream.range(0, 5000).toArray();
+        for(int i = 0; i < 2000; i = i + 1){
+            int index = random.nextInt(5000);
+            changed = changed.set(index, -i);
+            expected[index] = -i;
+        }
+        for(int i = 0; i < 5000; i = i + 1){
+            assert original.get(i) == i;
+            assert changed.get(i) == expected[i];
+        }
+
+        // Appending to the changed copy keeps going from where the set left the tree.
+        changed = changed.pushBack(5000);
+        assert changed.size() == 5001 && changed.get(5000) == 5000 && original.size() == 5000;
+    }
+
+    @Test
+    public void testCopyOf(){
+        for(int n : new int[]{0, 1, 31, 32, 33, 64, 1024, 1056, 1057, 2000, 32_800, 33_825}){
+            Vector<Integer> source = new Vector<>();
+            for(int i = 0; i < n; i = i + 1){
+                source.pushBack(i);
+            }
+            PersistentVector<Integer> vector = PersistentVector.copyOf(source);
+            assert vector.size() == n;
+
+            List<Integer> elements = new ArrayList<>();
+            vector.forEach(elements::add);
+            assert elements.equals(IntStream.range(0, n).boxed().collect(Collectors.toList()));
+
+            // Built vectors grow and shrink like pushed ones.
+            PersistentVector<Integer> grown = vector.pushBack(n);
+            assert grown.get(n) == n && grown.popBack().size() == n;
+            assert n < 2 || vector.popBack().getBack() == n - 2;
+        }
+    }
+
+    @Test
+    public void testIterator(){
+        PersistentVector<Integer> vector = PersistentVector.copyOf(IntStream.range(0, 100).boxed()
+                .collect(Collectors.toList()));
+        RandomAccessIterator<Integer> it = vector.begin();
+        assert it.distance(vector.end()) == 100;
+        it.advance(70);
+        assert it.get() == 70 && it.previous() == 69 && it.add(-60).get() == 9;
+
+        int expected = 0;
+        for(Integer i : vector){
+            assert i == expected;
+            expected = expected + 1;
+        }
+        assert expected == 100;
+
+        boolean thrown = false;
+        try{
+            vector.begin().set(1);
+        }catch(UnsupportedOperationException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testConcurrentReaders() throws InterruptedException {
+        AtomicReference<PersistentVector<Integer>> shared = new AtomicReference<>(PersistentVector.empty());
+        Thread[] readers = new Thread[3];
+        boolean[] consistent = new boolean[readers.length];
+        for(int r = 0; r < readers.length; r = r + 1){
+            int id = r;
+            readers[r] = new Thread(() -> {
+                boolean ok = true;
+                for(int k = 0; k < 200; k = k + 1){
+                    PersistentVector<Integer> snapshot = shared.get();
+                    int expected = 0;
+                    for(Integer i : snapshot){
+                        ok &= i == expected;
+                        expected = expected + 1;
+                    }
+                    ok &= expected == snapshot.size();
+                }
+                consistent[id] = ok;
+            });
+            readers[r].start();
+        }
+        for(int i = 0; i < 20_000; i = i + 1){
+            shared.set(shared.get().pushBack(i));
+        }
+        for(Thread reader : readers){
+            reader.join();
+        }
+        for(boolean ok : consistent){
+            assert ok;
+        }
+    }
+}
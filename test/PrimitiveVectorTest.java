@@ -0,0 +1,114 @@
+import org.junit.jupiter.api.Test;
+import rul.container.DoubleVector;
+import rul.container.IntVector;
+import rul.container.LongVector;
+import rul.iterator.DoubleRandomAccessIterator;
+import rul.iterator.IntRandomAccessIterator;
+import rul.iterator.LongRandomAccessIterator;
+
+public class PrimitiveVectorTest {
+
+    @Test
+    public void testPushBackGrowth(){
+        IntVector vector = new IntVector();
+        for(int i = 0; i < 1000; i = i + 1){
+            vector.pushBack(i);
+        }
+
+        assert vector.size() == 1000;
+        assert vector.capacity() >= 1000;
+        for(int i = 0; i < 1000; i = i + 1){
+            assert vector.get(i) == i;
+        }
+
+        vector.shrinkToFit();
+        assert vector.capacity() == 1000;
+
+        vector.reserve(5000);
+        assert vector.capacity() == 5000;
+        assert vector.size() == 1000;
+    }
+
+    @Test
+    public void testInsertSet(){
+        LongVector vector = new LongVector(0);
+        vector.pushBack(10);
+        vector.pushBack(30);
+        vector.insert(1, 20);
+        vector.insert(0, 0);
+        vector.insert(4, 40);
+
+        assert vector.size() == 5;
+        for(int i = 0; i < 5; i = i + 1){
+            assert vector.get(i) == i * 10L;
+        }
+
+        vector.set(2, Long.MAX_VALUE);
+        assert vector.get(2) == Long.MAX_VALUE;
+
+        vector.popBack();
+        assert vector.size() == 4;
+
+        boolean thrown = false;
+        try{
+            vector.get(4);
+        }catch(IndexOutOfBoundsException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testIterators(){
+        DoubleVector vector = new DoubleVector();
+        for(int i = 0; i < 10; i = i + 1){
+            vector.pushBack(i * 0.5);
+        }
+
+        double sum = 0;
+        DoubleRandomAccessIterator end = vector.end();
+        for(DoubleRandomAccessIterator it = vector.begin(); !it.equals(end); it.inc()){
+            sum += it.getDouble();
+        }
+        assert sum == 22.5;
+
+        DoubleRandomAccessIterator it = vector.begin().add(4);
+        assert it.getDouble() == 2.0;
+        it.setDouble(-1);
+        assert vector.get(4) == -1;
+
+        it.advance(-4);
+        assert it.equals(vector.begin());
+        assert !it.hasPrevious();
+
+        it = vector.end();
+        assert it.previousDouble() == 4.5;
+        assert it.nextDouble() == 4.5;
+        assert !it.hasNext();
+    }
+
+    @Test
+    public void testBoxedInterop(){
+        IntVector ints = new IntVector();
+        ints.pushBack(1);
+        ints.pushBack(2);
+        ints.pushBack(3);
+
+        int sum = 0;
+        for(Integer i : ints){
+            sum += i;
+        }
+        assert sum == 6;
+
+        IntRandomAccessIterator it = ints.begin();
+        it.set(7);
+        assert it.nextInt() == 7;
+
+        LongVector longs = new LongVector();
+        longs.pushBack(5);
+        LongRandomAccessIterator lit = longs.begin();
+        assert lit.get() == 5L;
+        assert !lit.clone().inc().hasNext();
+        assert lit.hasNext();
+    }
+}
@@ -0,0 +1,107 @@
+import org.junit.jupiter.api.Test;
+import rul.algorithm.Search;
+import rul.container.DoublyLinkedList;
+import rul.container.Vector;
+import rul.iterator.ForwardIterator;
+import rul.iterator.RandomAccessIterator;
+
+import java.util.Comparator;
+import java.util.Random;
+
+public class SearchTest {
+
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    // Sorted values with runs of duplicates , every value in [0,max] even.
+    private static int[] sortedValues(int n){
+        Random random = new Random(n);
+        int[] values = new int[n];
+        int value = 0;
+        for(int i = 0; i < n; i = i + 1){
+            if(random.nextInt(3) == 0){
+                value = value + 2;
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    private static int lower(int[] values, int value){
+        int i = 0;
+        while(i < values.length && values[i] < value){
+            i = i + 1;
+        }
+        return i;
+    }
+
+    private static int upper(int[] values, int value){
+        int i = 0;
+        while(i < values.length && values[i] <= value){
+            i = i + 1;
+        }
+        return i;
+    }
+
+    @Test
+    public void testRandomAccess(){
+        for(int n : new int[]{0, 1, 2, 7, 100, 1000}){
+            int[] values = sortedValues(n);
+            Vector<Integer> vector = new Vector<>();
+            for(int v : values){
+                vector.pushBack(v);
+            }
+            RandomAccessIterator<Integer> first = vector.begin();
+            RandomAccessIterator<Integer> last = vector.end();
+            int max = n == 0 ? 0 : values[n - 1];
+
+            for(int value = -1; value <= max + 1; value = value + 1){
+                assert first.distance(Search.lowerBound(first, last, value, ORDER)) == lower(values, value);
+                assert first.distance(Search.upperBound(first, last, value, ORDER)) == upper(values, value);
+                assert Search.binarySearch(first, last, value, ORDER) == (lower(values, value) != upper(values, value));
+
+                var range = Search.equalRange(first, last, value, ORDER);
+                assert first.distance(range.first()) == lower(values, value);
+                assert first.distance(range.last()) == upper(values, value);
+            }
+            // The bounds are untouched.
+            assert first.equals(vector.begin()) && last.equals(vector.end());
+        }
+    }
+
+    @Test
+    public void testForward(){
+        int[] values = sortedValues(300);
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for(int v : values){
+            list.pushBack(v);
+        }
+
+        for(int value = -1; value <= values[values.length - 1] + 1; value = value + 1){
+            ForwardIterator<Integer> lower = Search.lowerBound(list.begin(), list.end(), value, ORDER);
+            ForwardIterator<Integer> upper = Search.upperBound(list.begin(), list.end(), value, ORDER);
+            assert steps(list.begin(), lower) == lower(values, value);
+            assert steps(list.begin(), upper) == upper(values, value);
+            assert Search.binarySearch(list.begin(), list.end(), value, ORDER) == (value >= 0 && value % 2 == 0
+                    && lower(values, value) != upper(values, value));
+
+            var range = Search.equalRange(list.begin(), list.end(), value, ORDER);
+            assert steps(range.first(), range.last()) == upper(values, value) - lower(values, value);
+        }
+
+        // Random access iterators passed as forward ones still jump.
+        Vector<Integer> vector = new Vector<>();
+        for(int v : values){
+            vector.pushBack(v);
+        }
+        ForwardIterator<Integer> first = vector.begin();
+        assert Search.lowerBound(first, vector.end(), 10, ORDER) instanceof RandomAccessIterator;
+    }
+
+    private static long steps(ForwardIterator<Integer> from, ForwardIterator<Integer> to){
+        long n = 0;
+        for(ForwardIterator<Integer> it = from.clone(); !it.equals(to); it.inc()){
+            n = n + 1;
+        }
+        return n;
+    }
+}
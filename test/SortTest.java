@@ -0,0 +1,110 @@
+import org.junit.jupiter.api.Test;
+import rul.algorithm.Sort;
+import rul.container.DoublyLinkedList;
+import rul.container.Vector;
+import rul.iterator.BidirectionalIterator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class SortTest {
+
+    // Sorting on key only , index tells whether equal keys kept their order.
+    private record Pair(int key, int index){}
+
+    private static final Comparator<Pair> BY_KEY = Comparator.comparingInt(Pair::key);
+
+    private static List<Pair> randomPairs(int n, int keys){
+        Random random = new Random(n);
+        List<Pair> pairs = new ArrayList<>();
+        for(int i = 0; i < n; i = i + 1){
+            pairs.add(new Pair(random.nextInt(keys), i));
+        }
+        return pairs;
+    }
+
+    private static List<Pair> sorted(List<Pair> pairs){
+        List<Pair> expected = new ArrayList<>(pairs);
+        expected.sort(BY_KEY);
+        return expected;
+    }
+
+    @Test
+    public void testDoublyLinkedList(){
+        for(int n : new int[]{0, 1, 2, 3, 17, 1000, 100000}){
+            List<Pair> pairs = randomPairs(n, n / 4 + 1);
+            DoublyLinkedList<Pair> list = new DoublyLinkedList<>();
+            pairs.forEach(list::pushBack);
+
+            list.sort(BY_KEY);
+
+            List<Pair> expected = sorted(pairs);
+            assert list.size() == n;
+            assert list.stream().toList().equals(expected);
+
+            List<Pair> backward = new ArrayList<>();
+            list.forEachReverse(p -> backward.add(0, p));
+            assert n > 1000 || backward.equals(expected);
+
+            if(n > 0){
+                assert list.getFront() == expected.get(0);
+                assert list.getBack() == expected.get(n - 1);
+            }
+        }
+    }
+
+    @Test
+    public void testDoublyLinkedListIteratorsSurvive(){
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        list.pushBack(3);
+        list.pushBack(1);
+        list.pushBack(2);
+        BidirectionalIterator<Integer> three = list.begin();
+
+        list.sort(Comparator.naturalOrder());
+
+        assert three.get() == 3;
+        assert !three.clone().inc().hasNext();
+        list.insertBefore(three, 4);
+        assert list.stream().toList().equals(List.of(1, 2, 4, 3));
+    }
+
+    @Test
+    public void testVector(){
+        for(int n : new int[]{0, 1, 2, 31, 33, 1000, 100000}){
+            List<Pair> pairs = randomPairs(n, n / 4 + 1);
+            Vector<Pair> vector = new Vector<>();
+            pairs.forEach(vector::pushBack);
+
+            vector.sort(BY_KEY);
+
+            assert vector.size() == n;
+            assert vector.stream().toList().equals(sorted(pairs));
+        }
+    }
+
+    @Test
+    public void testParallelVector(){
+        for(int n : new int[]{10, 10000, 300000}){
+            List<Pair> pairs = randomPairs(n, 100);
+            Vector<Pair> vector = new Vector<>();
+            pairs.forEach(vector::pushBack);
+
+            vector.parallelSort(BY_KEY);
+
+            assert vector.stream().toList().equals(sorted(pairs));
+        }
+    }
+
+    @Test
+    public void testArrayRange(){
+        Integer[] a = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        Sort.mergeSort(a, 2, 8, Comparator.naturalOrder());
+        assert List.of(a).equals(List.of(9, 8, 2, 3, 4, 5, 6, 7, 1, 0));
+
+        Sort.parallelMergeSort(a, 0, a.length, Comparator.reverseOrder());
+        assert List.of(a).equals(List.of(9, 8, 7, 6, 5, 4, 3, 2, 1, 0));
+    }
+}
@@ -0,0 +1,152 @@
+import org.junit.jupiter.api.Test;
+import rul.container.DoublyLinkedList;
+import rul.container.UnrolledLinkedList;
+import rul.iterator.BidirectionalIterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class UnrolledLinkedListTest {
+
+    private static void assertContents(UnrolledLinkedList<Integer> list, List<Integer> expected){
+        assert list.size() == expected.size();
+
+        BidirectionalIterator<Integer> it = list.begin();
+        for(Integer t : expected){
+            assert it.next().equals(t);
+        }
+        assert !it.hasNext();
+
+        List<Integer> visited = new ArrayList<>();
+        list.forEach(visited::add);
+        assert visited.equals(expected);
+
+        it = list.end();
+        for(int i = expected.size() - 1; i >= 0; i = i - 1){
+            assert it.previous().equals(expected.get(i));
+        }
+        assert !it.hasPrevious();
+    }
+
+    @Test
+    public void testPush(){
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        List<Integer> expected = new ArrayList<>();
+
+        for(int i = 0; i < 20; i = i + 1){
+            list.pushBack(i);
+            expected.add(i);
+            list.pushFront(-i);
+            expected.add(0, -i);
+        }
+        assertContents(list, expected);
+        assert list.getFront() == -19;
+        assert list.getBack() == 19;
+
+        BidirectionalIterator<Integer> it = list.reverseBegin();
+        assert it.next() == 19;
+        assert it.next() == 18;
+
+        for(int i = 0; i < 10; i = i + 1){
+            list.popFront();
+            expected.remove(0);
+            list.popBack();
+            expected.remove(expected.size() - 1);
+        }
+        assertContents(list, expected);
+
+        list.clear();
+        assert list.isEmpty();
+    }
+
+    @Test
+    public void testInsertEraseMiddle(){
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        for(int i = 0; i < 8; i = i + 1){
+            list.pushBack(i);
+            expected.add(i);
+        }
+
+        BidirectionalIterator<Integer> it = list.begin();
+        for(int i = 0; i < 3; i = i + 1){
+            it.inc();
+        }
+        for(int i = 0; i < 10; i = i + 1){
+            it = list.insertBefore(it, 100 + i);
+            expected.add(3, 100 + i);
+        }
+        assertContents(list, expected);
+
+        it = list.insertAfter(it, 50);
+        expected.add(4, 50);
+        assert it.get() == 50;
+        assertContents(list, expected);
+
+        BidirectionalIterator<Integer> last = list.begin();
+        for(int i = 0; i < 12; i = i + 1){
+            last.inc();
+        }
+        it = list.erase(list.begin(), last);
+        expected.subList(0, 12).clear();
+        assert it.get().equals(expected.get(0));
+        assertContents(list, expected);
+    }
+
+    @Test
+    public void testRandomOperations(){
+        Random random = new Random(42);
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(8);
+        List<Integer> expected = new ArrayList<>();
+
+        for(int op = 0; op < 5000; op = op + 1){
+            int index = expected.isEmpty() ? 0 : random.nextInt(expected.size());
+            BidirectionalIterator<Integer> it = list.begin();
+            for(int i = 0; i < index; i = i + 1){
+                it.inc();
+            }
+
+            if(expected.isEmpty() || random.nextInt(3) != 0){
+                list.insertBefore(it, op);
+                expected.add(index, op);
+            }else{
+                BidirectionalIterator<Integer> next = list.erase(it);
+                expected.remove(index);
+                if(index < expected.size()){
+                    assert next.get().equals(expected.get(index));
+                }else{
+                    assert !next.hasNext();
+                }
+            }
+        }
+        assertContents(list, expected);
+    }
+
+    @Test
+    public void testForeignPosition(){
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>();
+        list.pushBack(1);
+
+        // end() of a DoublyLinkedList is positional with a null position.
+        BidirectionalIterator<Integer> foreign = new DoublyLinkedList<Integer>().end();
+        int thrown = 0;
+        try{
+            list.insertBefore(foreign, 2);
+        }catch(IllegalArgumentException e){
+            thrown = thrown + 1;
+        }
+        try{
+            list.insertAfter(foreign, 2);
+        }catch(IllegalArgumentException e){
+            thrown = thrown + 1;
+        }
+        try{
+            list.erase(foreign);
+        }catch(IllegalArgumentException e){
+            thrown = thrown + 1;
+        }
+        assert thrown == 3;
+        assert list.size() == 1;
+    }
+}
@@ -0,0 +1,387 @@
+import org.junit.jupiter.api.Test;
+import rul.container.DoublyLinkedList;
+import rul.container.GrowthPolicy;
+import rul.container.Vector;
+import rul.iterator.Cursor;
+import rul.iterator.RandomAccessIterator;
+import rul.iterator.ReverseRandomAccessIterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class VectorTest {
+
+    @Test
+    public void testPushBack(){
+        Vector<Integer> vector = new Vector<>();
+        for(int i = 0; i < 1000; i = i + 1){
+            vector.pushBack(i);
+        }
+
+        assert vector.size() == 1000;
+        assert vector.capacity() == 1024;
+        for(int i = 0; i < 1000; i = i + 1){
+            assert vector.get(i) == i;
+        }
+
+        vector.shrinkToFit();
+        assert vector.capacity() == 1000;
+        assert vector.get(999) == 999;
+
+        vector.reserve(2000);
+        assert vector.capacity() == 2000;
+        assert vector.size() == 1000;
+
+        Vector<Integer> empty = new Vector<>(0);
+        empty.pushBack(1);
+        assert empty.get(0) == 1;
+
+        boolean thrown = false;
+        try{
+            vector.get(1000);
+        }catch(IndexOutOfBoundsException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testIterators(){
+        Vector<Integer> vector = new Vector<>();
+        for(int i = 0; i < 10; i = i + 1){
+            vector.pushBack(i);
+        }
+
+        int sum = 0;
+        for(Integer i : vector){
+            sum += i;
+        }
+        assert sum == 45;
+
+        RandomAccessIterator<Integer> begin = vector.begin();
+        RandomAccessIterator<Integer> end = vector.end();
+        assert begin.distance(end) == 10;
+        assert end.distance(begin) == -10;
+
+        RandomAccessIterator<Integer> it = begin.add(5);
+        assert it.get() == 5;
+        it.set(50);
+        assert vector.get(5) == 50;
+        it.advance(-5);
+        assert it.equals(begin);
+        assert !it.hasPrevious();
+
+        it = vector.end();
+        assert it.previous() == 9;
+        assert it.next() == 9;
+        assert !it.hasNext();
+        assert it.equals(end);
+    }
+
+    @Test
+    public void testRangeConstructor(){
+        Vector<Integer> source = new Vector<>();
+        for(int i = 0; i < 100; i = i + 1){
+            source.pushBack(i);
+        }
+
+        Vector<Integer> copy = new Vector<>(source.begin().add(10), source.begin().add(60));
+        assert copy.size() == 50;
+        assert copy.capacity() == 50;
+        for(int i = 0; i < 50; i = i + 1){
+            assert copy.get(i) == i + 10;
+        }
+
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        list.pushBack(1);
+        list.pushBack(2);
+        list.pushBack(3);
+
+        Vector<Integer> fromList = new Vector<>(list.begin(), list.end());
+        assert fromList.size() == 3;
+        assert fromList.get(0) == 1 && fromList.get(1) == 2 && fromList.get(2) == 3;
+
+        Vector<Integer> empty = new Vector<>(source.end(), source.end());
+        assert empty.isEmpty();
+        empty.pushBack(7);
+        assert empty.get(0) == 7;
+    }
+
+    private static void assertContents(Vector<Integer> vector, Integer... expected){
+        assert vector.size() == expected.length;
+        for(int i = 0; i < expected.length; i = i + 1){
+            assert vector.get(i).equals(expected[i]);
+        }
+    }
+
+    @Test
+    public void testInsert(){
+        Vector<Integer> vector = new Vector<>(0);
+        vector.insert(0, 2);
+        vector.insert(0, 0);
+        vector.insert(1, 1);
+        vector.insert(3, 3);
+        assertContents(vector, 0, 1, 2, 3);
+
+        vector.insertAll(2, new Integer[]{10, 11, 12});
+        assertContents(vector, 0, 1, 10, 11, 12, 2, 3);
+
+        vector.insertAll(7, List.of(20, 21));
+        assertContents(vector, 0, 1, 10, 11, 12, 2, 3, 20, 21);
+
+        boolean thrown = false;
+        try{
+            vector.insert(10, 5);
+        }catch(IndexOutOfBoundsException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testInsertRange(){
+        Vector<Integer> vector = new Vector<>();
+        for(int i = 0; i < 5; i = i + 1){
+            vector.pushBack(i);
+        }
+
+        // From itself.
+        vector.insert(1, vector.begin().add(3), vector.end());
+        assertContents(vector, 0, 3, 4, 1, 2, 3, 4);
+
+        Vector<Integer> other = new Vector<>();
+        other.pushBack(100);
+        other.pushBack(200);
+        vector.insert(0, other.begin(), other.end());
+        assertContents(vector, 100, 200, 0, 3, 4, 1, 2, 3, 4);
+
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        list.pushBack(-1);
+        list.pushBack(-2);
+        vector.insert(vector.size(), list.begin(), list.end());
+        assertContents(vector, 100, 200, 0, 3, 4, 1, 2, 3, 4, -1, -2);
+
+        vector.insert(3, list.end(), list.end());
+        assert vector.size() == 11;
+
+        // A reversed view of itself is read before the gap moves the elements.
+        Vector<Integer> self = new Vector<>();
+        for(int i = 0; i < 4; i = i + 1){
+            self.pushBack(i);
+        }
+        self.insert(1, new ReverseRandomAccessIterator<>(self.end()), new ReverseRandomAccessIterator<>(self.begin()));
+        assert self.size() == 8 && self.get(0) == 0 && self.get(1) == null;
+        for(int i = 2; i < 8; i = i + 1){
+            assert self.get(i) == new int[]{3, 2, 1, 1, 2, 3}[i - 2];
+        }
+    }
+
+    @Test
+    public void testErase(){
+        Vector<Integer> vector = new Vector<>();
+        for(int i = 0; i < 10; i = i + 1){
+            vector.pushBack(i);
+        }
+
+        vector.erase(0);
+        vector.erase(8);
+        assertContents(vector, 1, 2, 3, 4, 5, 6, 7, 8);
+
+        vector.erase(2, 5);
+        assertContents(vector, 1, 2, 6, 7, 8);
+
+        vector.erase(3, 3);
+        assertContents(vector, 1, 2, 6, 7, 8);
+
+        vector.erase(0, vector.size());
+        assert vector.isEmpty();
+
+        boolean thrown = false;
+        try{
+            vector.erase(0);
+        }catch(IndexOutOfBoundsException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testStreams(){
+        Vector<Integer> vector = new Vector<>();
+        for(int i = 0; i < 100000; i = i + 1){
+            vector.pushBack(i);
+        }
+
+        Spliterator<Integer> spliterator = vector.spliterator();
+        assert spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED);
+        assert spliterator.getExactSizeIfKnown() == 100000;
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assert prefix.getExactSizeIfKnown() == 50000;
+        assert spliterator.getExactSizeIfKnown() == 50000;
+        prefix.tryAdvance(i -> { assert i == 0; });
+        spliterator.tryAdvance(i -> { assert i == 50000; });
+
+        assert vector.stream().mapToLong(Integer::longValue).sum() == 4999950000L;
+        assert vector.parallelStream().mapToLong(Integer::longValue).sum() == 4999950000L;
+        assert vector.parallelStream().skip(10).findFirst().orElseThrow() == 10;
+        assert vector.parallelStream().collect(Collectors.toList()).equals(
+                IntStream.range(0, 100000).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testCursorForEach(){
+        Vector<Integer> vector = new Vector<>();
+        Cursor<Integer> cursor = vector.cursor();
+        assert !cursor.toFront().isValid();
+        assert !cursor.toBack().isValid();
+
+        for(int i = 0; i < 5; i = i + 1){
+            vector.pushBack(i);
+        }
+
+        int expected = 0;
+        for(cursor.toFront(); cursor.isValid(); cursor.inc()){
+            assert cursor.get() == expected++;
+        }
+        assert expected == 5;
+
+        for(cursor.toBack(); cursor.isValid(); cursor.dec()){
+            assert cursor.get() == --expected;
+        }
+        assert expected == 0;
+
+        List<Integer> forward = new ArrayList<>();
+        vector.forEach(forward::add);
+        assert forward.equals(List.of(0, 1, 2, 3, 4));
+
+        List<Integer> backward = new ArrayList<>();
+        vector.forEachReverse(backward::add);
+        assert backward.equals(List.of(4, 3, 2, 1, 0));
+    }
+
+    @Test
+    public void testBulk(){
+        Vector<String> vector = new Vector<>(List.of("a", "b", "c"));
+        assert vector.size() == 3;
+        assert vector.capacity() == 3;
+
+        vector.addAll(new String[]{"d", "e"});
+        vector.addAll(List.of("f"));
+        assert vector.size() == 6;
+        assert vector.get(3).equals("d") && vector.get(5).equals("f");
+
+        Object[] objects = vector.toArray();
+        assert objects.length == 6 && objects[0].equals("a");
+
+        String[] small = vector.toArray(new String[0]);
+        assert small.length == 6 && small[5].equals("f");
+
+        String[] large = vector.toArray(new String[8]);
+        assert large[5].equals("f") && large[6] == null;
+
+        Vector<Object> empty = new Vector<>(new ArrayList<>());
+        assert empty.isEmpty();
+        empty.pushBack(1);
+        assert empty.get(0).equals(1);
+    }
+
+    @Test
+    public void testGrowthPolicy(){
+        Vector<Integer> lazy = new Vector<>();
+        assert lazy.capacity() == 0;
+        lazy.pushBack(0);
+        assert lazy.capacity() == 8;
+
+        // Vectors built empty in any other way allocate just as lazily.
+        lazy = new Vector<>(0);
+        lazy.pushBack(0);
+        assert lazy.capacity() == 8;
+        lazy = new Vector<>(new ArrayList<Integer>());
+        assert lazy.capacity() == 0;
+        lazy.pushBack(0);
+        assert lazy.capacity() == 8;
+        lazy = new Vector<>(lazy.end(), lazy.end());
+        lazy.pushBack(0);
+        assert lazy.capacity() == 8;
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        lazy = new Vector<>(list.begin(), list.end());
+        assert lazy.capacity() == 0;
+        lazy.pushBack(0);
+        assert lazy.capacity() == 8;
+
+        Vector<Integer> vector = new Vector<>(0, GrowthPolicy.increment(10));
+        for(int i = 0; i < 25; i = i + 1){
+            vector.pushBack(i);
+        }
+        assert vector.capacity() == 30;
+
+        vector = new Vector<>(10, GrowthPolicy.geometric(1.5));
+        for(int i = 0; i < 16; i = i + 1){
+            vector.pushBack(i);
+        }
+        assert vector.capacity() == 22;
+
+        vector = new Vector<>(1, GrowthPolicy.capped(2, 100));
+        for(int i = 0; i < 300; i = i + 1){
+            vector.pushBack(i);
+        }
+        assert vector.capacity() == 328;
+        for(int i = 0; i < 300; i = i + 1){
+            assert vector.get(i) == i;
+        }
+
+        boolean thrown = false;
+        try{
+            GrowthPolicy.geometric(1);
+        }catch(IllegalArgumentException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+
+    @Test
+    public void testShrinkHysteresis(){
+        Vector<Integer> vector = new Vector<>(GrowthPolicy.DOUBLING.shrinking(0.25));
+        for(int i = 0; i < 1000; i = i + 1){
+            vector.pushBack(i);
+        }
+        assert vector.capacity() == 1024;
+
+        while(vector.size() > 256){
+            vector.popBack();
+        }
+        assert vector.capacity() == 1024;
+        vector.popBack();
+        assert vector.capacity() == 510;
+
+        // Going back and forth around either boundary doesn't reallocate.
+        for(int i = 0; i < 100; i = i + 1){
+            vector.pushBack(i);
+            vector.popBack();
+            vector.popBack();
+            vector.pushBack(i);
+        }
+        assert vector.capacity() == 510;
+        assert vector.get(253) == 253;
+
+        vector.erase(0, vector.size());
+        assert vector.capacity() == 16;
+
+        Vector<Integer> fixed = new Vector<>(1024);
+        fixed.pushBack(1);
+        fixed.popBack();
+        assert fixed.capacity() == 1024;
+
+        boolean thrown = false;
+        try{
+            GrowthPolicy.DOUBLING.shrinking(0.5);
+        }catch(IllegalArgumentException e){
+            thrown = true;
+        }
+        assert thrown;
+    }
+}